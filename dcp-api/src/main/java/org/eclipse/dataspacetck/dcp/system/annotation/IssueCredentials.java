@@ -14,17 +14,22 @@
 
 package org.eclipse.dataspacetck.dcp.system.annotation;
 
+import org.junit.jupiter.api.parallel.ResourceLock;
+
 import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.CALLBACK_ENDPOINT_LOCK;
 
 /**
- * Signals to perform a credential issuance prior to executing a test method.
+ * Signals to perform a credential issuance prior to executing a test method. Issuance is delivered through the callback
+ * endpoint, so annotated tests hold the callback endpoint lock.
  */
 @Inherited
+@ResourceLock(CALLBACK_ENDPOINT_LOCK)
 @Retention(RUNTIME)
 @Target({ METHOD })
 public @interface IssueCredentials {
@@ -17,6 +17,7 @@ package org.eclipse.dataspacetck.dcp.system.crypto;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jwt.JWTClaimsSet;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -34,4 +35,18 @@ public interface KeyService {
      */
     String sign(Map<String, String> headers, JWTClaimsSet claims);
 
+    /**
+     * Signs a batch of JWTs with the same headers, returning the serialized tokens in the order of the claims.
+     */
+    default List<String> signAll(Map<String, String> headers, List<JWTClaimsSet> claims) {
+        return claims.stream().map(c -> sign(headers, c)).toList();
+    }
+
+    /**
+     * Signs a batch of JWTs with the default headers.
+     */
+    default List<String> signAll(List<JWTClaimsSet> claims) {
+        return signAll(Map.of(), claims);
+    }
+
 }
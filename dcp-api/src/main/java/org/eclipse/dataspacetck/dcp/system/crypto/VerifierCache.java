@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.crypto;
+
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+
+import java.text.ParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches signature verifiers by their full key ID, i.e. the DID and the key fragment. A cached verifier is reused as long
+ * as the public key published in the DID document is unchanged; when the document changes, the verifier is rebuilt.
+ * Verifiers are thread-safe and can be shared between concurrent validations.
+ */
+public class VerifierCache {
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final VerifierCache SHARED = new VerifierCache(DEFAULT_MAX_SIZE);
+
+    private final Map<String, Entry> verifiers = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public VerifierCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the process-wide cache.
+     */
+    public static VerifierCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a verifier for the key, creating it if the key is not cached or its JWK differs from the cached one.
+     *
+     * @param keyId        the full key ID, e.g. {@code did:web:example.com#key-1}
+     * @param publicKeyJwk the JWK published in the DID document
+     */
+    public JWSVerifier getVerifier(String keyId, Map<String, Object> publicKeyJwk) throws ParseException {
+        var entry = verifiers.get(keyId);
+        // DID documents served from the cache share the same JWK instance, so the identity check is usually sufficient
+        if (entry != null && (entry.jwk() == publicKeyJwk || entry.jwk().equals(publicKeyJwk))) {
+            return entry.verifier();
+        }
+        var verifier = Keys.createVerifier(JWK.parse(publicKeyJwk));
+        if (entry == null && verifiers.size() >= maxSize) {
+            verifiers.keySet().stream().findAny().ifPresent(verifiers::remove);
+        }
+        verifiers.put(keyId, new Entry(publicKeyJwk, verifier));
+        return verifier;
+    }
+
+    /**
+     * Removes all verifiers for keys of the given DID.
+     */
+    public void invalidate(String did) {
+        verifiers.keySet().removeIf(keyId -> keyId.equals(did) || keyId.startsWith(did + "#"));
+    }
+
+    public int size() {
+        return verifiers.size();
+    }
+
+    private record Entry(Map<String, Object> jwk, JWSVerifier verifier) {
+    }
+}
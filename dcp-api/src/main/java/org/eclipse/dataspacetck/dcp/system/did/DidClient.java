@@ -15,8 +15,8 @@
 package org.eclipse.dataspacetck.dcp.system.did;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
 import org.eclipse.dataspacetck.dcp.system.model.did.DidDocument;
 
 import java.io.IOException;
@@ -26,6 +26,8 @@ import java.net.URL;
 
 import static java.net.URLDecoder.decode;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.DID_RESOLUTION;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.time;
 
 /**
  * Resolves DID documents. Only Web DIDs are supported.
@@ -37,25 +39,54 @@ public class DidClient {
     private static final String DID_DOCUMENT = "did.json";
     private static final String WELL_KNOWN = "/.well-known";
 
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final int NOT_MODIFIED = 304;
+
     private final String scheme;
+    private final DidDocumentCache cache;
 
     public DidClient(boolean https) {
+        this(https, DidDocumentCache.shared());
+    }
+
+    public DidClient(boolean https, DidDocumentCache cache) {
         scheme = https ? "https" : "http";
+        this.cache = cache;
     }
 
     /**
-     * Resolves the DID document for the given DID.
+     * Resolves the DID document for the given DID. Documents are served from the cache while fresh; stale documents
+     * carrying an {@code ETag} are revalidated with a conditional request.
      */
     public DidDocument resolveDocument(String did) {
-        var request = new Request.Builder().url(didToUrl(did)).build();
-        var client = new OkHttpClient();
-        var call = client.newCall(request);
+        return time(DID_RESOLUTION, () -> fetchDocument(did));
+    }
+
+    private DidDocument fetchDocument(String did) {
+        var url = didToUrl(did);
+        var cached = cache.get(url);
+        if (cached != null && cache.isFresh(cached)) {
+            return cached.document();
+        }
+
+        var builder = new Request.Builder().url(url);
+        if (cached != null && cached.etag() != null) {
+            builder.header(IF_NONE_MATCH, cached.etag());
+        }
+        var call = HttpClients.shared().newCall(builder.build());
         try (var response = call.execute()) {
+            if (response.code() == NOT_MODIFIED && cached != null) {
+                return cache.revalidated(url, cached, response.header(CACHE_CONTROL)).document();
+            }
             if (!response.isSuccessful()) {
                 throw new RuntimeException("Unexpected response: " + response.code());
             }
             //noinspection DataFlowIssue
-            return MAPPER.readValue(response.body().string(), DidDocument.class);
+            var document = MAPPER.readValue(response.body().string(), DidDocument.class);
+            cache.put(url, document, response.header(ETAG), response.header(CACHE_CONTROL));
+            return document;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
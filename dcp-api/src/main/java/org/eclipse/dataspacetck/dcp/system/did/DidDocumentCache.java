@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.did;
+
+import org.eclipse.dataspacetck.dcp.system.model.did.DidDocument;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches resolved DID documents by their resolution URL. Entries expire after the configured TTL or the {@code max-age}
+ * sent by the server, whichever is shorter. Expired entries that carry an {@code ETag} are kept so they can be
+ * revalidated with a conditional request. When the maximum size is reached, the least recently used entry is evicted.
+ */
+public class DidDocumentCache {
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final String NO_STORE = "no-store";
+    private static final String NO_CACHE = "no-cache";
+    private static final String MAX_AGE = "max-age=";
+
+    private static final DidDocumentCache SHARED = Builder.newInstance().build();
+
+    private final Duration ttl;
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private DidDocumentCache(Duration ttl, int maxSize, Clock clock) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > DidDocumentCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the process-wide cache used by default by {@link DidClient}.
+     */
+    public static DidDocumentCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the cached entry for the URL, or null if there is none. The entry may be stale, in which case the caller
+     * should revalidate it using its {@link Entry#etag()}. A fresh entry counts as a hit, anything else as a miss.
+     */
+    @Nullable
+    public Entry get(String url) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(url);
+        }
+        if (entry != null && entry.isFresh(clock.millis())) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Caches a document returned by a successful resolution, honouring the response's {@code Cache-Control} header.
+     */
+    public void put(String url, DidDocument document, @Nullable String etag, @Nullable String cacheControl) {
+        var lifetime = lifetime(cacheControl);
+        if (lifetime < 0 || (lifetime == 0 && etag == null)) {
+            // not cacheable, or cacheable but impossible to revalidate
+            remove(url);
+            return;
+        }
+        var entry = new Entry(document, etag, clock.millis() + lifetime);
+        synchronized (entries) {
+            entries.put(url, entry);
+        }
+    }
+
+    /**
+     * Extends the lifetime of an entry after the server confirmed it with {@code 304 Not Modified}.
+     */
+    public Entry revalidated(String url, Entry entry, @Nullable String cacheControl) {
+        revalidations.increment();
+        var lifetime = Math.max(0, lifetime(cacheControl));
+        var refreshed = new Entry(entry.document(), entry.etag(), clock.millis() + lifetime);
+        synchronized (entries) {
+            entries.put(url, refreshed);
+        }
+        return refreshed;
+    }
+
+    public boolean isFresh(Entry entry) {
+        return entry.isFresh(clock.millis());
+    }
+
+    public void remove(String url) {
+        synchronized (entries) {
+            entries.remove(url);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), revalidations.sum(), evictions.sum());
+    }
+
+    /**
+     * Returns the lifetime in milliseconds, 0 if the entry must be revalidated on every use, or -1 if it must not be stored.
+     */
+    private long lifetime(@Nullable String cacheControl) {
+        var lifetime = ttl.toMillis();
+        if (cacheControl == null) {
+            return lifetime;
+        }
+        for (var directive : cacheControl.toLowerCase().split(",")) {
+            directive = directive.trim();
+            if (NO_STORE.equals(directive)) {
+                return -1;
+            } else if (NO_CACHE.equals(directive)) {
+                return 0;
+            } else if (directive.startsWith(MAX_AGE)) {
+                try {
+                    var maxAge = Long.parseLong(directive.substring(MAX_AGE.length())) * 1000;
+                    lifetime = Math.min(lifetime, Math.max(0, maxAge));
+                } catch (NumberFormatException e) {
+                    // ignore malformed directive and fall back to the TTL
+                }
+            }
+        }
+        return lifetime;
+    }
+
+    /**
+     * A cached DID document.
+     */
+    public record Entry(DidDocument document, @Nullable String etag, long expiresAt) {
+
+        public boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+    }
+
+    /**
+     * Cache counters.
+     */
+    public record Stats(long hits, long misses, long revalidations, long evictions) {
+    }
+
+    public static class Builder {
+        private Duration ttl = DEFAULT_TTL;
+        private int maxSize = DEFAULT_MAX_SIZE;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Builder maxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public DidDocumentCache build() {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("Cache size must be positive: " + maxSize);
+            }
+            return new DidDocumentCache(ttl, maxSize, clock);
+        }
+    }
+}
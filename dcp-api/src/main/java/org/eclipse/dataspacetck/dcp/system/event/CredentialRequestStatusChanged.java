@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.event;
+
+/**
+ * Published by the issuer when a credential request changes its status.
+ *
+ * @param issuerPid the issuer process id of the request
+ * @param holderPid the holder process id of the request
+ * @param status    the new status, {@code ISSUED} or {@code REJECTED}
+ */
+public record CredentialRequestStatusChanged(String issuerPid, String holderPid, String status) implements DcpEvent {
+}
@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.event;
+
+import java.util.List;
+
+/**
+ * Published by the credential service after it stored the credentials of a credential message.
+ *
+ * @param holderPid       the holder process id of the message
+ * @param issuerPid       the issuer process id of the message
+ * @param credentialTypes the types of the stored credentials
+ */
+public record CredentialsStored(String holderPid, String issuerPid, List<String> credentialTypes) implements DcpEvent {
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.event;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Delivers events to subscribers within the TCK process. Tests use it to wait for a specific event instead of polling.
+ */
+public interface EventBus {
+
+    /**
+     * Delivers the event to the current subscribers on the calling thread.
+     */
+    void publish(DcpEvent event);
+
+    /**
+     * Subscribes to events of the given type.
+     *
+     * @return the subscription, which is cancelled when closed
+     */
+    <E extends DcpEvent> Subscription subscribe(Class<E> type, Consumer<? super E> subscriber);
+
+    /**
+     * Returns a future completed with the next event of the given type that matches the filter. The subscription is
+     * made before this method returns, so it should be called before the action that triggers the event.
+     */
+    <E extends DcpEvent> CompletableFuture<E> next(Class<E> type, Predicate<? super E> filter);
+
+    /**
+     * A subscription to events.
+     */
+    interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.http;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits the number of concurrent calls per host. A permit is held until the response body is closed, so the limit
+ * bounds transfers in flight and not only the time to the response headers. Waiting for a permit is bounded by the
+ * connect timeout of the call, or 10 seconds if the call has none: a call made while all permits are held by calls waiting on it, e.g. a callback to the
+ * same host, fails instead of deadlocking.
+ */
+class HostConcurrencyInterceptor implements Interceptor {
+    private static final long DEFAULT_ACQUIRE_TIMEOUT = 10_000;
+
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final int maxPerHost;
+
+    HostConcurrencyInterceptor(int maxPerHost) {
+        this.maxPerHost = maxPerHost;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        var host = chain.request().url().host();
+        var semaphore = permits.computeIfAbsent(host, h -> new Semaphore(maxPerHost));
+        var timeout = chain.connectTimeoutMillis() > 0 ? chain.connectTimeoutMillis() : DEFAULT_ACQUIRE_TIMEOUT;
+        try {
+            if (!semaphore.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new InterruptedIOException("Timed out waiting for a connection to " + host + ", " + maxPerHost + " calls in flight");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a connection to " + host);
+        }
+        var permit = new Permit(semaphore);
+        try {
+            var response = chain.proceed(chain.request());
+            return response.newBuilder().body(new PermitBody(response.body(), permit)).build();
+        } catch (IOException | RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Releases a permit at most once.
+     */
+    private static class Permit {
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        }
+    }
+
+    /**
+     * Releases the permit of the call when the body is closed.
+     */
+    private static class PermitBody extends ResponseBody {
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+
+        PermitBody(ResponseBody delegate, Permit permit) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        permit.release();
+                    }
+                }
+            });
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @NotNull
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
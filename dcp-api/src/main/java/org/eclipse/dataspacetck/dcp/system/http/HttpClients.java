@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.http;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.eclipse.dataspacetck.dcp.system.timing.StepTimings;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.HTTP;
+
+/**
+ * Provides the HTTP client used for all outbound DCP calls. A single client is shared so that all callers use the same
+ * connection pool and dispatcher. Connections are kept alive and HTTP/2 is negotiated via ALPN where the server supports it.
+ */
+public final class HttpClients {
+    public static final String CONNECT_TIMEOUT = TCK_PREFIX + ".http.connect.timeout";
+    public static final String READ_TIMEOUT = TCK_PREFIX + ".http.read.timeout";
+    public static final String WRITE_TIMEOUT = TCK_PREFIX + ".http.write.timeout";
+    public static final String CALL_TIMEOUT = TCK_PREFIX + ".http.call.timeout";
+    public static final String MAX_IDLE_CONNECTIONS = TCK_PREFIX + ".http.pool.max.idle";
+    public static final String KEEP_ALIVE = TCK_PREFIX + ".http.pool.keepalive";
+    public static final String MAX_REQUESTS = TCK_PREFIX + ".http.max.requests";
+    public static final String MAX_REQUESTS_PER_HOST = TCK_PREFIX + ".http.max.requests.per.host";
+
+    private static final long DEFAULT_CONNECT_TIMEOUT = 10_000;
+    private static final long DEFAULT_READ_TIMEOUT = 30_000;
+    private static final long DEFAULT_WRITE_TIMEOUT = 30_000;
+    private static final long DEFAULT_CALL_TIMEOUT = 0; // no limit
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 32;
+    private static final long DEFAULT_KEEP_ALIVE = 300_000;
+    private static final int DEFAULT_MAX_REQUESTS = 256;
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 64;
+
+    private static volatile OkHttpClient client;
+    private static boolean configured;
+
+    /**
+     * Returns the shared client. Unless {@link #configure(Function)} was called before, the client is configured from
+     * system properties.
+     */
+    public static OkHttpClient shared() {
+        var current = client;
+        if (current == null) {
+            synchronized (HttpClients.class) {
+                current = client;
+                if (current == null) {
+                    current = client = create(System::getProperty);
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Configures the shared client from the given properties. Only the first call replaces the client; later calls keep
+     * it, so that callers holding the client continue to share its connection pool and dispatcher.
+     *
+     * @param properties resolves a property key to its value, or null if not set
+     */
+    public static synchronized void configure(Function<String, String> properties) {
+        if (configured) {
+            return;
+        }
+        configured = true;
+        var previous = client;
+        client = create(properties);
+        if (previous != null) {
+            previous.connectionPool().evictAll();
+        }
+    }
+
+    private static OkHttpClient create(Function<String, String> properties) {
+        var maxRequestsPerHost = intProperty(properties, MAX_REQUESTS_PER_HOST, DEFAULT_MAX_REQUESTS_PER_HOST);
+
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(intProperty(properties, MAX_REQUESTS, DEFAULT_MAX_REQUESTS));
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        var pool = new ConnectionPool(intProperty(properties, MAX_IDLE_CONNECTIONS, DEFAULT_MAX_IDLE_CONNECTIONS),
+                longProperty(properties, KEEP_ALIVE, DEFAULT_KEEP_ALIVE), TimeUnit.MILLISECONDS);
+
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(pool)
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(Duration.ofMillis(longProperty(properties, CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT)))
+                .readTimeout(Duration.ofMillis(longProperty(properties, READ_TIMEOUT, DEFAULT_READ_TIMEOUT)))
+                .writeTimeout(Duration.ofMillis(longProperty(properties, WRITE_TIMEOUT, DEFAULT_WRITE_TIMEOUT)))
+                .callTimeout(Duration.ofMillis(longProperty(properties, CALL_TIMEOUT, DEFAULT_CALL_TIMEOUT)))
+                // round trips made within another step, e.g. DID resolution, count towards that step
+                .addInterceptor(chain -> StepTimings.inStep() ? chain.proceed(chain.request()) :
+                        StepTimings.time(HTTP, () -> chain.proceed(chain.request())))
+                // the dispatcher only limits asynchronous calls, synchronous calls are limited by the interceptor
+                .addInterceptor(new HostConcurrencyInterceptor(maxRequestsPerHost))
+                .build();
+    }
+
+    private static int intProperty(Function<String, String> properties, String key, int defaultValue) {
+        return ofNullable(properties.apply(key)).map(Integer::parseInt).orElse(defaultValue);
+    }
+
+    private static long longProperty(Function<String, String> properties, String key, long defaultValue) {
+        return ofNullable(properties.apply(key)).map(Long::parseLong).orElse(defaultValue);
+    }
+
+    private HttpClients() {
+    }
+}
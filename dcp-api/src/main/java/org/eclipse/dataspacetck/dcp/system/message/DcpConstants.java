@@ -80,4 +80,9 @@ public interface DcpConstants {
     String ISSUER_METADATA_MESSAGE_TYPE = "IssuerMetadata";
 
     String ISSUER_METADATA_PATH = "/metadata";
+
+    /**
+     * Resource lock held by tests that receive callbacks from the system under test, see {@code @ResourceLock}.
+     */
+    String CALLBACK_ENDPOINT_LOCK = "org.eclipse.dataspacetck.dcp.callback";
 }
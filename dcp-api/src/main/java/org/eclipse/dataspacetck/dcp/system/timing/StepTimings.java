@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.timing;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long a test spends in each {@link Step}.
+ * <p>
+ * A {@link Recording} is started on the thread executing a test. Steps timed on that thread are added to it. Steps timed on
+ * other threads, for example by handlers serving callbacks of the system under test, are added to the recording that
+ * claimed the callbacks through {@link #claimCallbacks()}, or to the only active recording. Time is attributed to the
+ * innermost step, so nested steps are not counted twice. HTTP round trips made within another step, such as the
+ * retrieval of a DID document, count towards that step.
+ */
+public final class StepTimings {
+
+    /**
+     * The steps timed during a test.
+     */
+    public enum Step {
+        DID_RESOLUTION,
+        TOKEN_SIGNING,
+        TOKEN_VERIFICATION,
+        HTTP,
+        ASSERTION
+    }
+
+    /**
+     * An action that is timed.
+     */
+    @FunctionalInterface
+    public interface TimedAction<T, E extends Exception> {
+        T execute() throws E;
+    }
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<ArrayDeque<Frame>> FRAMES = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final Set<Recording> ACTIVE = ConcurrentHashMap.newKeySet();
+    private static final AtomicReference<Recording> CALLBACKS = new AtomicReference<>();
+
+    /**
+     * Starts a recording for the test executed on the current thread.
+     */
+    public static Recording start() {
+        var recording = new Recording();
+        CURRENT.set(recording);
+        ACTIVE.add(recording);
+        return recording;
+    }
+
+    /**
+     * Attributes steps timed on threads without a recording to the recording of the current thread.
+     */
+    public static void claimCallbacks() {
+        var recording = CURRENT.get();
+        if (recording != null) {
+            CALLBACKS.set(recording);
+        }
+    }
+
+    /**
+     * Returns true if a step is being timed on the current thread.
+     */
+    public static boolean inStep() {
+        return !FRAMES.get().isEmpty();
+    }
+
+    /**
+     * Executes the action and adds its duration to the given step.
+     */
+    public static <T, E extends Exception> T time(Step step, TimedAction<T, E> action) throws E {
+        var frames = FRAMES.get();
+        var frame = new Frame(System.nanoTime());
+        frames.push(frame);
+        try {
+            return action.execute();
+        } finally {
+            frames.pop();
+            var elapsed = System.nanoTime() - frame.start;
+            var parent = frames.peek();
+            if (parent != null) {
+                parent.nested += elapsed;
+            }
+            var recording = target();
+            if (recording != null) {
+                recording.add(step, elapsed - frame.nested);
+            }
+        }
+    }
+
+    private static Recording target() {
+        var recording = CURRENT.get();
+        if (recording != null) {
+            return recording;
+        }
+        var callbacks = CALLBACKS.get();
+        if (callbacks != null && ACTIVE.contains(callbacks)) {
+            return callbacks;
+        }
+        var iterator = ACTIVE.iterator();
+        if (iterator.hasNext()) {
+            var only = iterator.next();
+            return iterator.hasNext() ? null : only;
+        }
+        return null;
+    }
+
+    private StepTimings() {
+    }
+
+    /**
+     * The step durations of a single test.
+     */
+    public static final class Recording {
+        private final Map<Step, LongAdder> nanos = new EnumMap<>(Step.class);
+
+        private Recording() {
+            for (var step : Step.values()) {
+                nanos.put(step, new LongAdder());
+            }
+        }
+
+        /**
+         * Ends the recording and returns the time spent in each step.
+         */
+        public Map<Step, Duration> stop() {
+            ACTIVE.remove(this);
+            CALLBACKS.compareAndSet(this, null);
+            if (CURRENT.get() == this) {
+                CURRENT.remove();
+            }
+            var durations = new EnumMap<Step, Duration>(Step.class);
+            nanos.forEach((step, adder) -> durations.put(step, Duration.ofNanos(adder.sum())));
+            return durations;
+        }
+
+        private void add(Step step, long elapsed) {
+            nanos.get(step).add(elapsed);
+        }
+    }
+
+    private static final class Frame {
+        private final long start;
+        private long nested;
+
+        private Frame(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.crypto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dcp.system.crypto.Keys.generateEcKey;
+
+class VerifierCacheTest {
+    private static final String KEY_ID = "did:web:localhost%3A8083:holder#key-1";
+
+    @Test
+    void verifyVerifierReused() throws Exception {
+        var cache = new VerifierCache(10);
+        var jwk = generateEcKey().toPublicJWK().toJSONObject();
+
+        var verifier = cache.getVerifier(KEY_ID, jwk);
+
+        assertThat(cache.getVerifier(KEY_ID, jwk)).isSameAs(verifier);
+        assertThat(cache.getVerifier(KEY_ID, new HashMap<>(jwk))).isSameAs(verifier);
+    }
+
+    @Test
+    void verifyRebuiltWhenKeyChanges() throws Exception {
+        var cache = new VerifierCache(10);
+        var verifier = cache.getVerifier(KEY_ID, generateEcKey().toPublicJWK().toJSONObject());
+
+        var rotated = cache.getVerifier(KEY_ID, generateEcKey().toPublicJWK().toJSONObject());
+
+        assertThat(rotated).isNotSameAs(verifier);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyInvalidate() throws Exception {
+        var cache = new VerifierCache(10);
+        cache.getVerifier(KEY_ID, generateEcKey().toPublicJWK().toJSONObject());
+        cache.getVerifier("did:web:localhost%3A8083:issuer#key-1", generateEcKey().toPublicJWK().toJSONObject());
+
+        cache.invalidate("did:web:localhost%3A8083:holder");
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyBounded() throws Exception {
+        var cache = new VerifierCache(2);
+        for (var i = 0; i < 5; i++) {
+            cache.getVerifier("did:web:example.com#key-" + i, generateEcKey().toPublicJWK().toJSONObject());
+        }
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
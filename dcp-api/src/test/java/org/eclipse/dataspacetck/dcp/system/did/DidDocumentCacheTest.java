@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.did;
+
+import org.eclipse.dataspacetck.dcp.system.model.did.DidDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DidDocumentCacheTest {
+    private static final String URL = "http://test.com/holder/did.json";
+    private final Clock clock = mock();
+    private DidDocumentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        cache = DidDocumentCache.Builder.newInstance().ttl(Duration.ofSeconds(60)).maxSize(2).clock(clock).build();
+    }
+
+    @Test
+    void verifyHitWhileFresh() {
+        var document = createDocument("did:web:test.com:holder");
+        cache.put(URL, document, null, null);
+
+        when(clock.millis()).thenReturn(59_999L);
+        var entry = cache.get(URL);
+
+        assertThat(entry).isNotNull();
+        assertThat(cache.isFresh(entry)).isTrue();
+        assertThat(entry.document()).isSameAs(document);
+        assertThat(cache.getStats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyStaleAfterTtl() {
+        cache.put(URL, createDocument("did:web:test.com:holder"), "\"v1\"", null);
+
+        when(clock.millis()).thenReturn(60_000L);
+        var entry = cache.get(URL);
+
+        assertThat(entry).isNotNull();
+        assertThat(cache.isFresh(entry)).isFalse();
+        assertThat(cache.getStats().misses()).isEqualTo(1);
+
+        var refreshed = cache.revalidated(URL, entry, null);
+        assertThat(cache.isFresh(refreshed)).isTrue();
+        assertThat(cache.getStats().revalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyMaxAgeBoundedByTtl() {
+        cache.put(URL, createDocument("did:web:test.com:holder"), null, "public, max-age=10");
+        when(clock.millis()).thenReturn(10_000L);
+        assertThat(cache.isFresh(cache.get(URL))).isFalse();
+
+        cache.put(URL, createDocument("did:web:test.com:holder"), null, "max-age=3600");
+        when(clock.millis()).thenReturn(69_999L);
+        assertThat(cache.isFresh(cache.get(URL))).isTrue();
+        when(clock.millis()).thenReturn(70_000L);
+        assertThat(cache.isFresh(cache.get(URL))).isFalse();
+    }
+
+    @Test
+    void verifyNoStoreAndNoCache() {
+        cache.put(URL, createDocument("did:web:test.com:holder"), "\"v1\"", "no-store");
+        assertThat(cache.get(URL)).isNull();
+
+        // no-cache without a validator cannot be revalidated, so it is not stored
+        cache.put(URL, createDocument("did:web:test.com:holder"), null, "no-cache");
+        assertThat(cache.get(URL)).isNull();
+
+        cache.put(URL, createDocument("did:web:test.com:holder"), "\"v1\"", "no-cache");
+        var entry = cache.get(URL);
+        assertThat(entry).isNotNull();
+        assertThat(cache.isFresh(entry)).isFalse();
+    }
+
+    @Test
+    void verifyLeastRecentlyUsedEviction() {
+        cache.put("url1", createDocument("did:web:one"), null, null);
+        cache.put("url2", createDocument("did:web:two"), null, null);
+        cache.get("url1");
+        cache.put("url3", createDocument("did:web:three"), null, null);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("url2")).isNull();
+        assertThat(cache.get("url1")).isNotNull();
+        assertThat(cache.getStats().evictions()).isEqualTo(1);
+    }
+
+    private DidDocument createDocument(String did) {
+        return DidDocument.Builder.newInstance().id(did).build();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.http;
+
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HostConcurrencyInterceptorTest {
+    private final Request request = new Request.Builder().url("http://localhost:8080/test").build();
+    private final Interceptor.Chain chain = mock(Interceptor.Chain.class);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(chain.request()).thenReturn(request);
+        when(chain.connectTimeoutMillis()).thenReturn(50);
+        when(chain.proceed(any())).thenAnswer(invocation -> new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create("body", null))
+                .build());
+    }
+
+    @Test
+    void verifyPermitHeldUntilBodyClosed() throws IOException {
+        var interceptor = new HostConcurrencyInterceptor(1);
+
+        var response = interceptor.intercept(chain);
+        assertThatThrownBy(() -> interceptor.intercept(chain)).isInstanceOf(InterruptedIOException.class);
+
+        assertThat(response.body().string()).isEqualTo("body");
+        response.close();
+        try (var next = interceptor.intercept(chain)) {
+            assertThat(next.code()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void verifyPermitReleasedOnce() throws IOException {
+        var interceptor = new HostConcurrencyInterceptor(1);
+
+        var response = interceptor.intercept(chain);
+        response.close();
+        response.close();
+
+        try (var ignored = interceptor.intercept(chain)) {
+            assertThatThrownBy(() -> interceptor.intercept(chain)).isInstanceOf(InterruptedIOException.class);
+        }
+    }
+
+    @Test
+    void verifyPermitReleasedOnFailure() throws IOException {
+        var interceptor = new HostConcurrencyInterceptor(1);
+        when(chain.proceed(any())).thenThrow(new IOException("failed")).thenAnswer(invocation -> new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(204)
+                .message("No Content")
+                .body(ResponseBody.create("", null))
+                .build());
+
+        assertThatThrownBy(() -> interceptor.intercept(chain)).hasMessage("failed");
+        try (var response = interceptor.intercept(chain)) {
+            assertThat(response.code()).isEqualTo(204);
+        }
+    }
+}
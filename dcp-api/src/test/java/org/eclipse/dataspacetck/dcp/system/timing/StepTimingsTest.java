@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.timing;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.ASSERTION;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.DID_RESOLUTION;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.HTTP;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.TOKEN_VERIFICATION;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.time;
+
+class StepTimingsTest {
+
+    @Test
+    void verifyNestedStepsAreExclusive() throws InterruptedException {
+        var recording = StepTimings.start();
+
+        time(ASSERTION, () -> {
+            Thread.sleep(20);
+            return time(DID_RESOLUTION, () -> {
+                Thread.sleep(50);
+                return null;
+            });
+        });
+
+        var durations = recording.stop();
+        assertThat(durations.get(DID_RESOLUTION)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(durations.get(ASSERTION)).isGreaterThanOrEqualTo(Duration.ofMillis(20)).isLessThan(durations.get(DID_RESOLUTION));
+        assertThat(durations.get(HTTP)).isZero();
+    }
+
+    @Test
+    void verifyCallbackThreadsRecordToClaimingTest() {
+        var recording = StepTimings.start();
+        StepTimings.claimCallbacks();
+
+        CompletableFuture.runAsync(() -> time(TOKEN_VERIFICATION, () -> {
+            sleep(10);
+            return null;
+        })).join();
+
+        assertThat(recording.stop().get(TOKEN_VERIFICATION)).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+    }
+
+    @Test
+    void verifyStepsWithoutRecordingAreIgnored() {
+        assertThat(StepTimings.inStep()).isFalse();
+        assertThat(time(HTTP, () -> StepTimings.inStep())).isTrue();
+        assertThat(StepTimings.inStep()).isFalse();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
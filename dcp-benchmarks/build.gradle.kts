@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ *
+ */
+
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":dcp-system"))
+    jmh(rootProject.libs.nimbus.jwt)
+    jmh(rootProject.libs.jmh.core)
+    jmhAnnotationProcessor(rootProject.libs.jmh.generator)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    // throughput, plus sampled latencies for percentiles
+    benchmarkMode = listOf("thrpt", "sample")
+    timeUnit = "us"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    // allocation rate per operation
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    // e.g. -Pjmh.includes=Signing
+    project.findProperty("jmh.includes")?.let { includes = listOf(it.toString()) }
+}
+
+// benchmarks are not part of the published artifacts
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.benchmarks;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
+import org.eclipse.dataspacetck.dcp.system.crypto.KeyServiceImpl;
+import org.eclipse.dataspacetck.dcp.system.crypto.Keys;
+import org.eclipse.dataspacetck.dcp.system.did.DidClient;
+import org.eclipse.dataspacetck.dcp.system.did.DidServiceImpl;
+import org.eclipse.dataspacetck.dcp.system.model.did.DidDocument;
+import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+import org.eclipse.dataspacetck.dcp.system.revocation.BitString;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static java.util.UUID.randomUUID;
+import static org.eclipse.dataspacetck.dcp.system.model.vc.CredentialConstants.CONTEXT_V1;
+
+/**
+ * Participants, keys and messages shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+    static final String ISSUER_DID = "did:web:localhost%3A8080:issuer";
+    static final String HOLDER_DID = "did:web:localhost%3A8080:holder";
+    static final String VERIFIER_DID = "did:web:localhost%3A8080:verifier";
+
+    static KeyService createKeyService() {
+        return new KeyServiceImpl(Keys.generateEcKey());
+    }
+
+    static JWTClaimsSet createTokenClaims(String issuer, String audience) {
+        var now = Instant.now();
+        return new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .subject(issuer)
+                .audience(audience)
+                .jwtID(randomUUID().toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(3600)))
+                .build();
+    }
+
+    static VerifiableCredential createCredential(String credentialType) {
+        return VerifiableCredential.Builder.newInstance()
+                .id(randomUUID().toString())
+                .issuanceDate(Instant.now().toString())
+                .expirationDate(Instant.now().plusSeconds(3600).toString())
+                .issuer(ISSUER_DID)
+                .type(List.of("VerifiableCredential", credentialType))
+                .context(List.of(CONTEXT_V1))
+                .credentialSubject(Map.of("id", HOLDER_DID, "foo", "bar"))
+                .build();
+    }
+
+    /**
+     * Resolves the DID of a single participant without network access.
+     */
+    static DidClient stubDidClient(String did, KeyService keyService) {
+        var document = new DidServiceImpl(did, "http://localhost:8080", keyService).resolveDidDocument().getContent();
+        return new DidClient(false) {
+            @Override
+            public DidDocument resolveDocument(String requested) {
+                if (!did.equals(requested)) {
+                    throw new IllegalArgumentException("Unknown DID: " + requested);
+                }
+                return document;
+            }
+        };
+    }
+
+    /**
+     * Creates a bit string of the given size in which about {@code density} of the bits are set. The same size and density
+     * always yield the same bits.
+     */
+    static BitString createBitString(int size, double density) {
+        var bitString = BitString.Builder.newInstance().size(size).build();
+        var random = new SplittableRandom(size);
+        for (var i = 0; i < size; i++) {
+            if (random.nextDouble() < density) {
+                bitString.set(i, true);
+            }
+        }
+        return bitString;
+    }
+
+    /**
+     * Returns random indexes into a list of the given size, for lookups that do not follow a predictable pattern.
+     */
+    static int[] randomIndexes(int size, int count) {
+        return new SplittableRandom(count).ints(count, 0, size).toArray();
+    }
+
+    private BenchmarkFixtures() {
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.benchmarks;
+
+import org.eclipse.dataspacetck.dcp.system.revocation.BitString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures single-bit reads and writes of {@link BitString} at random positions, for list sizes from 16 Kbit to 128 Mbit
+ * and revocation densities from sparse to dense.
+ */
+@State(Scope.Thread)
+public class BitStringBenchmark {
+    private static final int INDEXES = 4096;
+
+    @Param({ "16384", "1048576", "16777216", "134217728" })
+    public int size;
+
+    @Param({ "0.0001", "0.01", "0.5" })
+    public double density;
+
+    private BitString bitString;
+    private int[] indexes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        bitString = BenchmarkFixtures.createBitString(size, density);
+        indexes = BenchmarkFixtures.randomIndexes(size, INDEXES);
+    }
+
+    @Benchmark
+    public boolean get() {
+        return bitString.get(nextIndex());
+    }
+
+    @Benchmark
+    public boolean set() {
+        // toggles the bit so the list keeps its density
+        var index = nextIndex();
+        return bitString.set(index, !bitString.get(index));
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (INDEXES - 1);
+        return indexes[cursor];
+    }
+}
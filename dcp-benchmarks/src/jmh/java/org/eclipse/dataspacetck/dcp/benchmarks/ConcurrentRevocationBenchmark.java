@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.benchmarks;
+
+import org.eclipse.dataspacetck.dcp.system.revocation.BitstringStatusListService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.ISSUER_DID;
+
+/**
+ * Measures concurrent revocations and status checks on a shared status list: one thread revokes credentials while three
+ * threads check revocation states, as verifiers do while an issuer revokes. Each thread visits the entries in a
+ * pseudo-random order that covers the whole list, and the list is recreated for every iteration, so revocations keep
+ * changing bits until the list is exhausted. The sizes are powers of two, as required by {@link Cursor}.
+ */
+@State(Scope.Group)
+public class ConcurrentRevocationBenchmark {
+    @Param({ "16384", "1048576", "16777216", "134217728" })
+    public int size;
+
+    @Param({ "0.0001", "0.01" })
+    public double density;
+
+    private BitstringStatusListService statusListService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        var bitString = BenchmarkFixtures.createBitString(size, density);
+        statusListService = new BitstringStatusListService(ISSUER_DID, "http://localhost:8080", "http://localhost:8080/statuslist/1", bitString);
+    }
+
+    @Benchmark
+    @Group("revocation")
+    @GroupThreads(1)
+    public void setRevoked(Cursor cursor) {
+        statusListService.setRevoked(cursor.next(size));
+    }
+
+    @Benchmark
+    @Group("revocation")
+    @GroupThreads(3)
+    public boolean isRevoked(Cursor cursor) {
+        return statusListService.isRevoked(cursor.next(size));
+    }
+
+    /**
+     * Walks the entries of a list in a pseudo-random order. Multiplying by an odd constant is a permutation modulo a power
+     * of two, so every entry is visited once per pass.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private static final long GOLDEN_RATIO = 0x9E3779B1L;
+        private long position = ThreadLocalRandom.current().nextInt();
+
+        int next(int size) {
+            return (int) (position++ * GOLDEN_RATIO & (size - 1));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.benchmarks;
+
+import org.eclipse.dataspacetck.dcp.system.generation.JwtCredentialGenerator;
+import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.ISSUER_DID;
+import static org.eclipse.dataspacetck.dcp.system.profile.TestProfile.MEMBERSHIP_CREDENTIAL_TYPE;
+
+/**
+ * Measures the generation of JWT credentials with {@code JwtCredentialGenerator}.
+ */
+@State(Scope.Benchmark)
+public class CredentialGenerationBenchmark {
+    private JwtCredentialGenerator generator;
+    private VerifiableCredential credential;
+
+    @Setup
+    public void setUp() {
+        generator = new JwtCredentialGenerator(ISSUER_DID, BenchmarkFixtures.createKeyService());
+        credential = BenchmarkFixtures.createCredential(MEMBERSHIP_CREDENTIAL_TYPE);
+    }
+
+    @Benchmark
+    public Result<String> generateCredential() {
+        return generator.generateCredential(credential);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.benchmarks;
+
+import org.eclipse.dataspacetck.dcp.system.generation.JwtCredentialGenerator;
+import org.eclipse.dataspacetck.dcp.system.generation.JwtPresentationGenerator;
+import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.HOLDER_DID;
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.ISSUER_DID;
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.VERIFIER_DID;
+import static org.eclipse.dataspacetck.dcp.system.model.vc.CredentialFormat.VC1_0_JWT;
+import static org.eclipse.dataspacetck.dcp.system.profile.TestProfile.MEMBERSHIP_CREDENTIAL_TYPE;
+
+/**
+ * Measures the generation of JWT presentations with {@code JwtPresentationGenerator} for a growing number of enclosed
+ * credentials.
+ */
+@State(Scope.Benchmark)
+public class PresentationGenerationBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int credentials;
+
+    private JwtPresentationGenerator generator;
+    private List<VcContainer> containers;
+
+    @Setup
+    public void setUp() {
+        var credentialGenerator = new JwtCredentialGenerator(ISSUER_DID, BenchmarkFixtures.createKeyService());
+        containers = IntStream.range(0, credentials)
+                .mapToObj(i -> {
+                    var credential = BenchmarkFixtures.createCredential(MEMBERSHIP_CREDENTIAL_TYPE);
+                    var raw = credentialGenerator.generateCredential(credential).getContent();
+                    return new VcContainer(MEMBERSHIP_CREDENTIAL_TYPE, raw, credential, VC1_0_JWT);
+                })
+                .toList();
+        generator = new JwtPresentationGenerator(HOLDER_DID, BenchmarkFixtures.createKeyService());
+    }
+
+    @Benchmark
+    public Result<String> generatePresentation() {
+        return generator.generatePresentation(VERIFIER_DID, HOLDER_DID, containers);
+    }
+}
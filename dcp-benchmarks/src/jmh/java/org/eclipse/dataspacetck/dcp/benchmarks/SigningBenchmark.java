@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.benchmarks;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.HOLDER_DID;
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.VERIFIER_DID;
+
+/**
+ * Measures signing of self-issued ID tokens with {@code KeyServiceImpl}.
+ */
+@State(Scope.Benchmark)
+public class SigningBenchmark {
+    private KeyService keyService;
+    private JWTClaimsSet claims;
+
+    @Setup
+    public void setUp() {
+        keyService = BenchmarkFixtures.createKeyService();
+        claims = BenchmarkFixtures.createTokenClaims(HOLDER_DID, VERIFIER_DID);
+    }
+
+    @Benchmark
+    public String sign() {
+        return keyService.sign(Map.of(), claims);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.benchmarks;
+
+import org.eclipse.dataspacetck.dcp.system.revocation.BitString;
+import org.eclipse.dataspacetck.dcp.system.revocation.BitstringStatusListService;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.ISSUER_DID;
+
+/**
+ * Measures the encoding of status lists, which happens whenever a changed list is served under {@code /statuslist}, for
+ * list sizes from 16 Kbit to 128 Mbit and revocation densities from sparse to dense. The compressed size depends on the
+ * density, so both affect the cost of an encoding.
+ */
+@State(Scope.Benchmark)
+public class StatusListEncodingBenchmark {
+
+    @Param({ "16384", "1048576", "16777216", "134217728" })
+    public int size;
+
+    @Param({ "0.0001", "0.01", "0.5" })
+    public double density;
+
+    private BitString bitString;
+    private BitString.Writer writer;
+    private BitstringStatusListService statusListService;
+
+    @Setup
+    public void setUp() {
+        bitString = BenchmarkFixtures.createBitString(size, density);
+        writer = BitString.Writer.newInstance().encoder(Base64.getUrlEncoder().withoutPadding());
+        statusListService = new BitstringStatusListService(ISSUER_DID, "http://localhost:8080", "http://localhost:8080/statuslist/1", bitString);
+    }
+
+    @Benchmark
+    public Result<String> write() {
+        return writer.write(bitString);
+    }
+
+    @Benchmark
+    public String generateEncodedStatusList() {
+        return statusListService.generateEncodedStatusList();
+    }
+}
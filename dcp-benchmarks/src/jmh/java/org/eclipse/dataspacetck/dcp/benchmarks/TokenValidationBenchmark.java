@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.benchmarks;
+
+import com.nimbusds.jwt.JWT;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+import org.eclipse.dataspacetck.dcp.system.verifier.BaseTokenValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.HOLDER_DID;
+import static org.eclipse.dataspacetck.dcp.benchmarks.BenchmarkFixtures.VERIFIER_DID;
+
+/**
+ * Measures token validation with {@code BaseTokenValidationService}: parsing, claim checks, key lookup in a stubbed DID
+ * document and signature verification. Replay detection is disabled so that the same token can be validated repeatedly.
+ */
+@State(Scope.Benchmark)
+public class TokenValidationBenchmark {
+    private BaseTokenValidationService validationService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        var keyService = BenchmarkFixtures.createKeyService();
+        var didClient = BenchmarkFixtures.stubDidClient(HOLDER_DID, keyService);
+        validationService = new BaseTokenValidationService((jti, expiration) -> Result.success(), didClient);
+        token = keyService.sign(Map.of(), BenchmarkFixtures.createTokenClaims(HOLDER_DID, VERIFIER_DID));
+        if (validationService.validateToken(token).failed()) {
+            throw new IllegalStateException("Benchmark token is invalid");
+        }
+    }
+
+    @Benchmark
+    public Result<JWT> validateToken() {
+        return validationService.validateToken(token);
+    }
+}
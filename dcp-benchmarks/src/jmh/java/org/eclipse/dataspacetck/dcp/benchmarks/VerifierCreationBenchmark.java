@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.benchmarks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import org.eclipse.dataspacetck.dcp.system.crypto.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the creation of signature verifiers with {@code Keys.createVerifier} for the supported key types.
+ */
+@State(Scope.Benchmark)
+public class VerifierCreationBenchmark {
+
+    @Param({ "EC", "Ed25519", "RSA" })
+    public String keyType;
+
+    private JWK publicKey;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        publicKey = switch (keyType) {
+            case "EC" -> Keys.generateEcKey().toPublicJWK();
+            case "Ed25519" -> new OctetKeyPairGenerator(Curve.Ed25519).generate().toPublicJWK();
+            case "RSA" -> Keys.generateRsaKey().toPublicJWK();
+            default -> throw new IllegalArgumentException("Unsupported key type: " + keyType);
+        };
+    }
+
+    @Benchmark
+    public JWSVerifier createVerifier() {
+        return Keys.createVerifier(publicKey);
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspacetck.dcp.system;
 
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
 import org.eclipse.dataspacetck.core.spi.system.ServiceResolver;
 import org.eclipse.dataspacetck.core.spi.system.SystemConfiguration;
@@ -33,9 +34,10 @@ import org.eclipse.dataspacetck.dcp.system.assembly.ServiceAssembly;
 import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.eclipse.dataspacetck.dcp.system.cs.CredentialService;
 import org.eclipse.dataspacetck.dcp.system.did.DidService;
-import org.eclipse.dataspacetck.dcp.system.generation.JwtCredentialGenerator;
+import org.eclipse.dataspacetck.dcp.system.event.EventBus;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
-import org.eclipse.dataspacetck.dcp.system.revocation.CredentialRevocationService;
+import org.eclipse.dataspacetck.dcp.system.revocation.ShardedRevocationService;
+import org.eclipse.dataspacetck.dcp.system.sts.StsClient;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
@@ -60,11 +62,14 @@ public class DcpSystemLauncher implements SystemLauncher {
     @Override
     public <T> boolean providesService(Class<T> type) {
         return type.isAssignableFrom(CredentialService.class) ||
-                type.isAssignableFrom(CredentialRevocationService.class) ||
+                type.isAssignableFrom(ShardedRevocationService.class) ||
                 type.isAssignableFrom(DidService.class) ||
+                type.isAssignableFrom(EventBus.class) ||
+                type.isAssignableFrom(StsClient.class) ||
                 type.isAssignableFrom(String.class) ||
                 type.isAssignableFrom(KeyService.class) ||
-                type.isAssignableFrom(VcContainer.class);
+                type.isAssignableFrom(VcContainer.class) ||
+                type.isAssignableFrom(Monitor.class);
     }
 
     @Nullable
@@ -73,12 +78,24 @@ public class DcpSystemLauncher implements SystemLauncher {
         var scopeId = configuration.getScopeId();
         var assembly = serviceAssemblies.computeIfAbsent(scopeId, id -> new ServiceAssembly(baseAssembly, resolver, configuration));
         if (type.isAssignableFrom(CredentialService.class)) {
+            // tests inspecting holder or issuer state receive callbacks for this scope
+            assembly.claimCallbackEndpoint();
             return type.cast(assembly.getCredentialService());
-        } else if (type.isAssignableFrom(CredentialRevocationService.class)) {
+        } else if (type.isAssignableFrom(ShardedRevocationService.class)) {
+            assembly.claimCallbackEndpoint();
             return type.cast(assembly.getRevocationService());
+        } else if (type.isAssignableFrom(EventBus.class)) {
+            assembly.claimCallbackEndpoint();
+            return type.cast(assembly.getEventBus());
+        } else if (type.isAssignableFrom(StsClient.class)) {
+            // tokens are validated by the holder of this scope
+            assembly.claimCallbackEndpoint();
+            return type.cast(assembly.getStsClient());
+        } else if (type.isAssignableFrom(Monitor.class)) {
+            return type.cast(configuration.getMonitor());
         } else if (type.isAssignableFrom(VcContainer.class)) {
             if (hasAnnotation(Credential.class, configuration)) {
-                var gen = new JwtCredentialGenerator(baseAssembly.getIssuerDid(), baseAssembly.getIssuerKeyService());
+                var gen = assembly.createCredentialGenerator(baseAssembly);
                 var credentialType = getAnnotation(Credential.class, configuration);
                 if (credentialType.isPresent()) {
                     return type.cast(assembly.createVcContainer(baseAssembly.getIssuerDid(), baseAssembly.getHolderDid(), gen, credentialType.get().value()));
@@ -112,6 +129,8 @@ public class DcpSystemLauncher implements SystemLauncher {
                 return type.cast(baseAssembly.getHolderPid());
             }
             if (hasAnnotation(TriggerEndpoint.class, configuration)) {
+                // the triggered verifier queries the holder of this scope
+                assembly.claimCallbackEndpoint();
                 return type.cast(baseAssembly.getVerifierTriggerEndpoint());
             }
 
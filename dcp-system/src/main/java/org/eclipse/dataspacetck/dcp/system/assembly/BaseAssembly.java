@@ -15,6 +15,7 @@
 package org.eclipse.dataspacetck.dcp.system.assembly;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
 import org.eclipse.dataspacetck.core.spi.system.SystemConfiguration;
 import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.eclipse.dataspacetck.dcp.system.crypto.KeyServiceImpl;
@@ -24,10 +25,19 @@ import org.eclipse.dataspacetck.dcp.system.cs.TokenValidationServiceImpl;
 import org.eclipse.dataspacetck.dcp.system.did.DidService;
 import org.eclipse.dataspacetck.dcp.system.did.DidServiceImpl;
 import org.eclipse.dataspacetck.dcp.system.did.IssuerDidService;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
+import org.eclipse.dataspacetck.dcp.system.issuer.CredentialDeliveryService;
+import org.eclipse.dataspacetck.dcp.system.revocation.BitstringStatusListService;
+import org.eclipse.dataspacetck.dcp.system.revocation.CredentialRevocationHandler;
+import org.eclipse.dataspacetck.dcp.system.revocation.ShardedRevocationService;
+import org.eclipse.dataspacetck.dcp.system.revocation.StatusList2021Service;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -40,6 +50,8 @@ import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREF
  * Assembles immutable services that are used across test invocations.
  */
 public class BaseAssembly {
+    private static final Duration DELIVERY_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
     private final String address;
     private final String issuerDid;
     private final KeyService issuerKeyService;
@@ -60,9 +72,13 @@ public class BaseAssembly {
     private final String holderPid;
     private final String verifierTriggerEndpoint;
     private final String revocationListType;
+    private final CredentialDeliveryService credentialDeliveryService;
+    private final ShardedRevocationService revocationService;
+    private final AtomicBoolean statusListsServed = new AtomicBoolean();
 
     public BaseAssembly(SystemConfiguration configuration) {
         mapper = new ObjectMapper();
+        HttpClients.configure(key -> configuration.getPropertyAsString(key, null));
         address = configuration.getPropertyAsString(TCK_CALLBACK_ADDRESS, TCK_DEFAULT_CALLBACK_ADDRESS);
         var verifierDid = configuration.getPropertyAsString(TCK_PREFIX + ".did.verifier", null);
         this.verifierDid = Objects.requireNonNullElseGet(verifierDid, () -> parseDid("verifier"));
@@ -98,6 +114,24 @@ public class BaseAssembly {
         thirdPartyDidService = new DidServiceImpl(thirdPartyDid, address, thirdPartyKeyService);
 
         revocationListType = configuration.getPropertyAsString(TCK_PREFIX + ".revocation.type", "bitstringstatuslist");
+
+        var deliveryBuilder = CredentialDeliveryService.Builder.newInstance();
+        ofNullable(configuration.getPropertyAsString(TCK_PREFIX + ".issuer.delivery.workers", null))
+                .map(Integer::parseInt)
+                .ifPresent(deliveryBuilder::workers);
+        ofNullable(configuration.getPropertyAsString(TCK_PREFIX + ".issuer.delivery.capacity", null))
+                .map(Integer::parseInt)
+                .ifPresent(deliveryBuilder::capacity);
+        credentialDeliveryService = deliveryBuilder.build();
+
+        // status lists are shared by all scopes, so persisted lists are mapped once
+        revocationService = createRevocationService(configuration);
+
+        // let pending deliveries complete when the TCK exits
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            credentialDeliveryService.shutdown(DELIVERY_SHUTDOWN_TIMEOUT);
+            revocationService.close();
+        }));
     }
 
     public String getVerifierTriggerEndpoint() {
@@ -180,6 +214,46 @@ public class BaseAssembly {
         return revocationListType;
     }
 
+    public CredentialDeliveryService getCredentialDeliveryService() {
+        return credentialDeliveryService;
+    }
+
+    public ShardedRevocationService getRevocationService() {
+        return revocationService;
+    }
+
+    /**
+     * Serves each status list under its credential id. The callback endpoint is shared by all scopes, so the handlers
+     * are registered by the first scope only.
+     */
+    public void serveStatusLists(CallbackEndpoint endpoint) {
+        if (!statusListsServed.compareAndSet(false, true)) {
+            return;
+        }
+        revocationService.onStatusListCreated(statusList -> {
+            synchronized (endpoint) {
+                endpoint.registerProtocolHandler("/statuslist/" + statusList.getCredentialId(), new CredentialRevocationHandler(statusList, mapper));
+            }
+        });
+    }
+
+    private ShardedRevocationService createRevocationService(SystemConfiguration configuration) {
+        ShardedRevocationService.StatusListFactory factory = switch (revocationListType.toLowerCase()) {
+            case "bitstringstatuslist" ->
+                    (credentialId, bitString) -> new BitstringStatusListService(issuerDid, address, credentialId, bitString);
+            case "statuslist2021" -> (credentialId, bitString) -> new StatusList2021Service(issuerDid, address, credentialId, bitString);
+            default -> throw new IllegalArgumentException("Unsupported revocation list type: " + revocationListType);
+        };
+        var builder = ShardedRevocationService.Builder.newInstance().factory(factory);
+        ofNullable(configuration.getPropertyAsString(TCK_PREFIX + ".revocation.list.size", null))
+                .map(Integer::parseInt)
+                .ifPresent(builder::listSize);
+        ofNullable(configuration.getPropertyAsString(TCK_PREFIX + ".revocation.storage.dir", null))
+                .map(Path::of)
+                .ifPresent(builder::directory);
+        return builder.build();
+    }
+
     private String parseDid(String discriminator) {
         var uri = URI.create(address);
         return uri.getPort() != 443 ? format("did:web:%s%%3A%s:%s", uri.getHost(), uri.getPort(), discriminator)
@@ -16,12 +16,13 @@ package org.eclipse.dataspacetck.dcp.system.assembly;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jwt.JWTClaimsSet;
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import org.eclipse.dataspacetck.core.api.system.CallbackEndpoint;
+import org.eclipse.dataspacetck.core.api.system.ProtocolHandler;
 import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
 import org.eclipse.dataspacetck.core.spi.system.ServiceResolver;
 import org.eclipse.dataspacetck.dcp.system.cs.CredentialApiHandler;
@@ -33,28 +34,34 @@ import org.eclipse.dataspacetck.dcp.system.cs.PresentationHandler;
 import org.eclipse.dataspacetck.dcp.system.cs.SecureTokenServerImpl;
 import org.eclipse.dataspacetck.dcp.system.did.DidClient;
 import org.eclipse.dataspacetck.dcp.system.did.DidDocumentHandler;
+import org.eclipse.dataspacetck.dcp.system.event.EventBus;
+import org.eclipse.dataspacetck.dcp.system.event.InMemoryEventBus;
 import org.eclipse.dataspacetck.dcp.system.generation.JwtCredentialGenerator;
 import org.eclipse.dataspacetck.dcp.system.generation.JwtPresentationGenerator;
 import org.eclipse.dataspacetck.dcp.system.handler.SchemaProvider;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
 import org.eclipse.dataspacetck.dcp.system.issuer.CredentialRequestHandler;
+import org.eclipse.dataspacetck.dcp.system.issuer.CredentialRequestRegistry;
 import org.eclipse.dataspacetck.dcp.system.issuer.IssuerMetadataHandler;
 import org.eclipse.dataspacetck.dcp.system.issuer.IssuerService;
 import org.eclipse.dataspacetck.dcp.system.issuer.IssuerServiceImpl;
+import org.eclipse.dataspacetck.dcp.system.issuer.RetryPolicy;
 import org.eclipse.dataspacetck.dcp.system.message.DcpMessageBuilder;
 import org.eclipse.dataspacetck.dcp.system.model.vc.CredentialConstants;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
-import org.eclipse.dataspacetck.dcp.system.revocation.BitstringStatusListService;
-import org.eclipse.dataspacetck.dcp.system.revocation.CredentialRevocationHandler;
-import org.eclipse.dataspacetck.dcp.system.revocation.CredentialRevocationService;
-import org.eclipse.dataspacetck.dcp.system.revocation.StatusList2021Service;
+import org.eclipse.dataspacetck.dcp.system.revocation.ShardedRevocationService;
+import org.eclipse.dataspacetck.dcp.system.revocation.StatusListResolver;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
 import org.eclipse.dataspacetck.dcp.system.sts.SecureTokenServer;
 import org.eclipse.dataspacetck.dcp.system.sts.StsClient;
+import org.eclipse.dataspacetck.dcp.system.timing.StepTimings;
 import org.eclipse.dataspacetck.dcp.system.verifier.BaseTokenValidationService;
 import org.eclipse.dataspacetck.dcp.system.verifier.VerifierTriggerHandler;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
@@ -85,7 +92,10 @@ public class ServiceAssembly {
     private final CredentialService credentialService;
     private final SecureTokenServer secureTokenServer;
     private final IssuerService issuerService;
-    private final CredentialRevocationService revocationService;
+    private final ShardedRevocationService revocationService;
+    private final EventBus eventBus = new InMemoryEventBus();
+    private final CallbackEndpoint endpoint;
+    private final Map<String, ProtocolHandler> scopedHandlers;
 
     public ServiceAssembly(BaseAssembly baseAssembly, ServiceResolver resolver, ServiceConfiguration configuration) {
         var tokenService = baseAssembly.getHolderTokenService();
@@ -97,59 +107,95 @@ public class ServiceAssembly {
                 .map(Pattern::compile)
                 .orElse(DEFAULT_SCOPE_PATTERN);
         secureTokenServer = new SecureTokenServerImpl(configuration, scopePattern);
-        credentialService = new CredentialServiceImpl(baseAssembly.getHolderDid(), List.of(generator), secureTokenServer, baseAssembly.getHolderTokenService(), mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES), scopePattern);
-        issuerService = new IssuerServiceImpl(baseAssembly.getIssuerKeyService(), baseAssembly.getIssuerTokenService(), supportedCredentials);
-        revocationService = createRevocationService(baseAssembly);
+        credentialService = new CredentialServiceImpl(baseAssembly.getHolderDid(), List.of(generator), secureTokenServer, baseAssembly.getHolderTokenService(), mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES), scopePattern, eventBus);
+        endpoint = (CallbackEndpoint) requireNonNull(resolver.resolve(CallbackEndpoint.class, configuration));
 
-        var endpoint = (CallbackEndpoint) requireNonNull(resolver.resolve(CallbackEndpoint.class, configuration));
+        revocationService = baseAssembly.getRevocationService();
+        issuerService = new IssuerServiceImpl(baseAssembly.getIssuerKeyService(), baseAssembly.getIssuerTokenService(), supportedCredentials,
+                baseAssembly.getCredentialDeliveryService(), createRetryPolicy(configuration), createRequestRegistry(configuration),
+                revocationService, eventBus, configuration.getMonitor());
         var monitor = configuration.getMonitor();
 
         // register the handlers
 
-        // ... for presentation query
-        var presentationHandler = new PresentationHandler(credentialService, tokenService, mapper, monitor);
-        endpoint.registerProtocolHandler("/presentations/query", presentationHandler);
-
-        // ... for credential issuance
-        endpoint.registerProtocolHandler("/credentials", new CredentialApiHandler(credentialService, mapper, issuerService));
-        endpoint.registerProtocolHandler("/offers", new CredentialOfferHandler(credentialService));
-        endpoint.registerProtocolHandler("/requests/.*", new CredentialRequestHandler(issuerService, mapper));
-        endpoint.registerProtocolHandler("/metadata", new IssuerMetadataHandler(supportedCredentials, mapper, baseAssembly.getIssuerDid()));
-
-        endpoint.registerHandler("/holder/did.json", new DidDocumentHandler(baseAssembly.getHolderDidService(), mapper));
-        endpoint.registerHandler("/verifier/did.json", new DidDocumentHandler(baseAssembly.getVerifierDidService(), mapper));
-        endpoint.registerHandler("/issuer/did.json", new DidDocumentHandler(baseAssembly.getIssuerDidService(), mapper));
-        endpoint.registerHandler("/thirdparty/did.json", new DidDocumentHandler(baseAssembly.getThirdPartyDidService(), mapper));
-
-        // ... for the verifier's trigger endpoint
-        endpoint.registerProtocolHandler("/api/trigger", new VerifierTriggerHandler(baseAssembly.getVerifierTokenService(),
-                mapper,
-                baseAssembly.getVerifierKeyService(),
-                baseAssembly.getVerifierDid(),
-                new BaseTokenValidationService(),
-                revocationService));
-
-        // ... for revocation
-        endpoint.registerHandler("/statuslist/.*", new CredentialRevocationHandler(revocationService, mapper));
-        // ... schema validation
-        endpoint.registerProtocolHandler("/schema/.*", new SchemaProvider());
+        // ... for presentation query and credential issuance, which act on the state of this scope
+        scopedHandlers = Map.of(
+                "/presentations/query", new PresentationHandler(credentialService, tokenService, mapper, monitor),
+                "/credentials", new CredentialApiHandler(credentialService, mapper, issuerService),
+                "/offers", new CredentialOfferHandler(credentialService),
+                "/requests/.*", new CredentialRequestHandler(issuerService, mapper));
+        // in parallel mode, scopes take over the callback endpoint only when their tests need to receive callbacks
+        var parallel = ofNullable(configuration.getPropertyAsString(TCK_PREFIX + ".parallel.workers", null))
+                .map(Integer::parseInt)
+                .orElse(1) > 1;
+        if (!parallel) {
+            claimCallbackEndpoint();
+        }
+
+        // scopes are created concurrently in parallel mode and share the endpoint
+        synchronized (endpoint) {
+            endpoint.registerProtocolHandler("/metadata", new IssuerMetadataHandler(supportedCredentials, mapper, baseAssembly.getIssuerDid()));
+
+            endpoint.registerHandler("/holder/did.json", new DidDocumentHandler(baseAssembly.getHolderDidService(), mapper));
+            endpoint.registerHandler("/verifier/did.json", new DidDocumentHandler(baseAssembly.getVerifierDidService(), mapper));
+            endpoint.registerHandler("/issuer/did.json", new DidDocumentHandler(baseAssembly.getIssuerDidService(), mapper));
+            endpoint.registerHandler("/thirdparty/did.json", new DidDocumentHandler(baseAssembly.getThirdPartyDidService(), mapper));
+
+            // ... for the verifier's trigger endpoint
+            endpoint.registerProtocolHandler("/api/trigger", new VerifierTriggerHandler(baseAssembly.getVerifierTokenService(),
+                    mapper,
+                    baseAssembly.getVerifierKeyService(),
+                    baseAssembly.getVerifierDid(),
+                    new BaseTokenValidationService(),
+                    createStatusListResolver(mapper, configuration)));
+
+            // ... for revocation, the status lists are shared by all scopes
+            baseAssembly.serveStatusLists(endpoint);
+            // ... schema validation
+            endpoint.registerProtocolHandler("/schema/.*", new SchemaProvider());
+        }
+    }
+
+    /**
+     * Routes the callbacks that act on the state of a scope, such as credential messages and presentation queries, to
+     * this scope. The counterparty under test sees a single callback endpoint, so tests that receive callbacks while
+     * other tests run concurrently must hold the {@code DcpConstants.CALLBACK_ENDPOINT_LOCK} resource lock.
+     */
+    public void claimCallbackEndpoint() {
+        synchronized (endpoint) {
+            scopedHandlers.forEach(endpoint::registerProtocolHandler);
+        }
+        StepTimings.claimCallbacks();
     }
 
     public CredentialService getCredentialService() {
         return credentialService;
     }
 
-    public CredentialRevocationService getRevocationService() {
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    public ShardedRevocationService getRevocationService() {
         return revocationService;
     }
 
+    /**
+     * Returns a generator for credentials issued in this scope, which assigns each credential a status list entry.
+     */
+    public JwtCredentialGenerator createCredentialGenerator(BaseAssembly baseAssembly) {
+        return new JwtCredentialGenerator(baseAssembly.getIssuerDid(), baseAssembly.getIssuerKeyService(), revocationService);
+    }
+
     public StsClient getStsClient() {
         return secureTokenServer;
     }
 
     public void issueCredentials(BaseAssembly baseAssembly) {
+        // the credentials may be sent to the holder of this scope
+        claimCallbackEndpoint();
         var issuerDid = baseAssembly.getIssuerDid();
-        var credentialGenerator = new JwtCredentialGenerator(issuerDid, baseAssembly.getIssuerKeyService());
+        var credentialGenerator = createCredentialGenerator(baseAssembly);
 
         var holderDid = baseAssembly.getHolderDid();
 
@@ -231,14 +277,35 @@ public class ServiceAssembly {
         return Collections.unmodifiableMap(map);
     }
 
-    private CredentialRevocationService createRevocationService(BaseAssembly baseAssembly) {
-        return switch (baseAssembly.getRevocationListType().toLowerCase()) {
-            case "bitstringstatuslist" ->
-                    new BitstringStatusListService(baseAssembly.getIssuerDid(), baseAssembly.getAddress());
-            case "statuslist2021" -> new StatusList2021Service(baseAssembly.getIssuerDid(), baseAssembly.getAddress());
-            default ->
-                    throw new IllegalArgumentException("Unsupported revocation list type: " + baseAssembly.getRevocationListType());
-        };
+    private StatusListResolver createStatusListResolver(ObjectMapper mapper, ServiceConfiguration configuration) {
+        var builder = StatusListResolver.Builder.newInstance()
+                .mapper(mapper)
+                // status list credentials are fetched repeatedly, so their JTIs are not checked for replay
+                .tokenValidationService(new BaseTokenValidationService((jti, expiration) -> Result.success()));
+        ofNullable(configuration.getPropertyAsString(TCK_PREFIX + ".revocation.cache.ttl", null))
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::ttl);
+        return builder.build();
+    }
+
+    private CredentialRequestRegistry createRequestRegistry(ServiceConfiguration configuration) {
+        var builder = CredentialRequestRegistry.Builder.newInstance();
+        ofNullable(configuration.getPropertyAsString(TCK_PREFIX + ".issuer.requests.retention", null))
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::retention);
+        ofNullable(configuration.getPropertyAsString(TCK_PREFIX + ".issuer.requests.max", null))
+                .map(Integer::parseInt)
+                .ifPresent(builder::maxEntries);
+        return builder.build();
+    }
+
+    private RetryPolicy createRetryPolicy(ServiceConfiguration configuration) {
+        return ofNullable(configuration.getPropertyAsString(TCK_PREFIX + ".issuer.delivery.attempts", null))
+                .map(Integer::parseInt)
+                .map(RetryPolicy::withMaxAttempts)
+                .orElseGet(RetryPolicy::defaults);
     }
 
     protected void sendCredentialMessage(BaseAssembly baseAssembly, String correlation, String token, VcContainer... credentials) throws JsonProcessingException {
@@ -280,8 +347,7 @@ public class ServiceAssembly {
                     .addHeader("Authorization", "Bearer " + token)
                     .build();
 
-            var client = new OkHttpClient();
-            try (var response = client.newCall(rq).execute()) {
+            try (var response = HttpClients.shared().newCall(rq).execute()) {
                 if (!response.isSuccessful()) {
                     throw new RuntimeException("Failed to seed credentials: " + response.message());
                 }
@@ -22,19 +22,29 @@ import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 
+import java.util.List;
 import java.util.Map;
 
 import static com.nimbusds.jose.JOSEObjectType.JWT;
 import static com.nimbusds.jose.JWSAlgorithm.ES256;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.TOKEN_SIGNING;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.time;
 
 /**
  * Default implementation.
  */
 public class KeyServiceImpl implements KeyService {
     private final ECKey key;
+    // the signer is thread-safe, so a single instance is shared by all callers
+    private final ECDSASigner signer;
 
     public KeyServiceImpl(ECKey key) {
         this.key = key;
+        try {
+            this.signer = new ECDSASigner(key.toECPrivateKey());
+        } catch (JOSEException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     @Override
@@ -44,6 +54,32 @@ public class KeyServiceImpl implements KeyService {
 
     @Override
     public String sign(Map<String, String> headers, JWTClaimsSet claims) {
+        return signJwt(createHeader(headers, claims), claims);
+    }
+
+    @Override
+    public List<String> signAll(Map<String, String> headers, List<JWTClaimsSet> claims) {
+        if (!headers.containsKey("kid")) {
+            return claims.stream().map(c -> signJwt(createHeader(headers, c), c)).toList();
+        }
+        // the header does not depend on the claims, so it is built once for the whole batch
+        var header = createHeader(headers, null);
+        return claims.stream().map(c -> signJwt(header, c)).toList();
+    }
+
+    private String signJwt(JWSHeader header, JWTClaimsSet claims) {
+        try {
+            return time(TOKEN_SIGNING, () -> {
+                var signedJwt = new SignedJWT(header, claims);
+                signedJwt.sign(signer);
+                return signedJwt.serialize();
+            });
+        } catch (JOSEException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private JWSHeader createHeader(Map<String, String> headers, JWTClaimsSet claims) {
         var header = new JWSHeader.Builder(ES256).type(JWT);
         if (!headers.containsKey("kid")) {
             header.keyID(claims.getClaim("iss") + "#" + key.getKeyID());
@@ -55,12 +91,6 @@ public class KeyServiceImpl implements KeyService {
                 header.customParam(k, v);
             }
         });
-        try {
-            var signedJwt = new SignedJWT(header.build(), claims);
-            signedJwt.sign(new ECDSASigner(key.toECPrivateKey()));
-            return signedJwt.serialize();
-        } catch (JOSEException e) {
-            throw new RuntimeException(e);
-        }
+        return header.build();
     }
 }
@@ -16,11 +16,15 @@ package org.eclipse.dataspacetck.dcp.system.cs;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.dataspacetck.dcp.system.event.CredentialsStored;
+import org.eclipse.dataspacetck.dcp.system.event.EventBus;
+import org.eclipse.dataspacetck.dcp.system.event.InMemoryEventBus;
 import org.eclipse.dataspacetck.dcp.system.generation.PresentationGenerator;
 import org.eclipse.dataspacetck.dcp.system.message.DcpMessageBuilder;
 import org.eclipse.dataspacetck.dcp.system.model.vc.CredentialFormat;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+import org.eclipse.dataspacetck.dcp.system.pex.PresentationDefinitionCompiler;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
 import org.eclipse.dataspacetck.dcp.system.sts.SecureTokenServer;
 import org.jetbrains.annotations.NotNull;
@@ -33,11 +37,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
-import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toMap;
 import static org.eclipse.dataspacetck.dcp.system.generation.PresentationGenerator.PresentationFormat.JWT;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.PRESENTATION;
@@ -58,10 +59,12 @@ public class CredentialServiceImpl implements CredentialService {
     private final SecureTokenServer secureTokenServer;
     private final String holderDid;
     private final Map<PresentationGenerator.PresentationFormat, PresentationGenerator> generators;
-    private final Map<String, List<VcContainer>> credentialsByType = new ConcurrentHashMap<>();
+    private final CredentialStore credentialStore = new InMemoryCredentialStore();
+    private final PresentationDefinitionCompiler definitionCompiler = new PresentationDefinitionCompiler();
     private final TokenValidationService tokenService;
     private final ObjectMapper mapper;
     private final Pattern scopePattern;
+    private final EventBus eventBus;
     private CredentialService delegate;
 
     public CredentialServiceImpl(String holderDid,
@@ -78,12 +81,23 @@ public class CredentialServiceImpl implements CredentialService {
                                  TokenValidationService tokenService,
                                  ObjectMapper mapper,
                                  Pattern scopePattern) {
+        this(holderDid, generators, secureTokenServer, tokenService, mapper, scopePattern, new InMemoryEventBus());
+    }
+
+    public CredentialServiceImpl(String holderDid,
+                                 List<PresentationGenerator> generators,
+                                 SecureTokenServer secureTokenServer,
+                                 TokenValidationService tokenService,
+                                 ObjectMapper mapper,
+                                 Pattern scopePattern,
+                                 EventBus eventBus) {
         this.generators = generators.stream().collect(toMap(PresentationGenerator::getFormat, v -> v));
         this.holderDid = holderDid;
         this.secureTokenServer = secureTokenServer;
         this.tokenService = tokenService;
         this.mapper = mapper;
         this.scopePattern = validateScopePattern(scopePattern);
+        this.eventBus = eventBus;
     }
 
     /**
@@ -153,7 +167,7 @@ public class CredentialServiceImpl implements CredentialService {
         if (delegate != null) {
             return delegate.getCredentials();
         }
-        return credentialsByType.values().stream().flatMap(Collection::stream).toList();
+        return credentialStore.getAll();
     }
 
     @Override
@@ -167,15 +181,17 @@ public class CredentialServiceImpl implements CredentialService {
         if (!message.validate()) {
             return failure("Invalid message", BAD_REQUEST);
         }
-        message.getCredentials()
-                .forEach(cred -> {
+        var containers = message.getCredentials().stream()
+                .map(cred -> {
                     var format = Arrays.stream(CredentialFormat.values())
                             .filter(f -> f.profileString.equals(cred.format()))
                             .findFirst()
                             .orElseThrow(() -> new IllegalArgumentException("Unknown format: " + cred.format()));
-                    var container = new VcContainer(cred.credentialType(), cred.payload(), createCredential(cred), format);
-                    credentialsByType.computeIfAbsent(cred.credentialType(), k -> new ArrayList<>()).add(container);
-                });
+                    return new VcContainer(cred.credentialType(), cred.payload(), createCredential(cred), format);
+                })
+                .toList();
+        credentialStore.add(containers);
+        eventBus.publish(new CredentialsStored(message.getHolderPid(), message.getIssuerPid(), containers.stream().map(VcContainer::credentialType).toList()));
         return success();
     }
 
@@ -202,8 +218,7 @@ public class CredentialServiceImpl implements CredentialService {
             scopeTypes.add(type);
         }
         var credentials = scopeTypes.stream()
-                .flatMap(c -> ofNullable(credentialsByType.get(c)).stream().flatMap(Collection::stream))
-                .filter(Objects::nonNull)
+                .flatMap(c -> credentialStore.findByType(c).stream())
                 .toList();
         // technically, responding with an empty credentials array is nonsensical, but allowed
         // if (credentials.isEmpty()) {
@@ -225,7 +240,16 @@ public class CredentialServiceImpl implements CredentialService {
     }
 
     private Result<Map<String, Object>> processPresentationQuery(Map<String, Object> message, List<String> scopes, String audience) {
-        return processBaseMessage(List.of(), audience);
+        var definition = definitionCompiler.compile(message.get(PRESENTATION_DEFINITION));
+        if (definition.failed()) {
+            return failure(definition.getFailure(), BAD_REQUEST);
+        }
+        // only credentials of the types granted by the access token are eligible
+        var credentials = definition.getContent().select(credentialStore, scopes);
+        if (credentials.failed()) {
+            return failure(credentials.getFailure(), credentials.getErrorType());
+        }
+        return processBaseMessage(credentials.getContent(), audience);
     }
 
     private Result<Map<String, Object>> processBaseMessage(List<VcContainer> credentials, String audience) {
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.cs;
+
+import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores the credentials held by the credential service. Implementations must be safe for concurrent use. Returned
+ * collections are immutable snapshots that are not affected by later writes.
+ */
+public interface CredentialStore {
+
+    /**
+     * Stores the credentials. All credentials of the batch become visible at once.
+     */
+    void add(Collection<VcContainer> credentials);
+
+    /**
+     * Returns all credentials in the order they were stored.
+     */
+    List<VcContainer> getAll();
+
+    /**
+     * Returns the credentials stored under the given credential type.
+     */
+    List<VcContainer> findByType(String credentialType);
+
+    /**
+     * Returns the credentials issued by the given issuer.
+     */
+    List<VcContainer> findByIssuer(String issuer);
+
+    /**
+     * Returns the credentials whose subject has the given id.
+     */
+    List<VcContainer> findBySubject(String subjectId);
+
+    /**
+     * Returns the credentials that expire before the given instant, ordered by expiration date. Credentials without an
+     * expiration date are not returned.
+     */
+    List<VcContainer> findExpiringBefore(Instant instant);
+
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.cs;
+
+import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Collections.unmodifiableList;
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.ID;
+
+/**
+ * A copy-on-write credential store. Writes are serialized and publish a new immutable snapshot of all indexes, so reads
+ * never lock and always see a consistent state. Credentials are written rarely and in batches, which keeps the copying
+ * cheap.
+ */
+public class InMemoryCredentialStore implements CredentialStore {
+    private volatile Snapshot snapshot = new Snapshot(List.of(), new HashMap<>(), new HashMap<>(), new HashMap<>(), new TreeMap<>());
+
+    @Override
+    public synchronized void add(Collection<VcContainer> credentials) {
+        if (credentials.isEmpty()) {
+            return;
+        }
+        var current = snapshot;
+        var all = new ArrayList<>(current.all());
+        all.addAll(credentials);
+        snapshot = new Snapshot(unmodifiableList(all),
+                index(current.byType(), credentials, VcContainer::credentialType, HashMap::new),
+                index(current.byIssuer(), credentials, c -> c.credential().getIssuer(), HashMap::new),
+                index(current.bySubject(), credentials, InMemoryCredentialStore::subjectId, HashMap::new),
+                index(current.byExpiry(), credentials, InMemoryCredentialStore::expiration, TreeMap::new));
+    }
+
+    @Override
+    public List<VcContainer> getAll() {
+        return snapshot.all();
+    }
+
+    @Override
+    public List<VcContainer> findByType(String credentialType) {
+        return snapshot.byType().getOrDefault(credentialType, List.of());
+    }
+
+    @Override
+    public List<VcContainer> findByIssuer(String issuer) {
+        return snapshot.byIssuer().getOrDefault(issuer, List.of());
+    }
+
+    @Override
+    public List<VcContainer> findBySubject(String subjectId) {
+        return snapshot.bySubject().getOrDefault(subjectId, List.of());
+    }
+
+    @Override
+    public List<VcContainer> findExpiringBefore(Instant instant) {
+        return snapshot.byExpiry().headMap(instant, false).values().stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * Returns a copy of the index with the added credentials. Only the lists of affected keys are copied, the lists of all
+     * other keys are shared with the previous snapshot.
+     */
+    private static <K, M extends Map<K, List<VcContainer>>> M index(M current,
+                                                                     Collection<VcContainer> added,
+                                                                     Function<VcContainer, K> key,
+                                                                     Supplier<M> factory) {
+        var grouped = new LinkedHashMap<K, List<VcContainer>>();
+        for (var credential : added) {
+            var k = key.apply(credential);
+            if (k != null) {
+                grouped.computeIfAbsent(k, x -> new ArrayList<>()).add(credential);
+            }
+        }
+        if (grouped.isEmpty()) {
+            return current;
+        }
+        var result = factory.get();
+        result.putAll(current);
+        grouped.forEach((k, credentials) -> {
+            var merged = new ArrayList<>(current.getOrDefault(k, List.of()));
+            merged.addAll(credentials);
+            result.put(k, unmodifiableList(merged));
+        });
+        return result;
+    }
+
+    private static String subjectId(VcContainer container) {
+        var subject = container.credential().getCredentialSubject();
+        return subject != null && subject.get(ID) instanceof String id ? id : null;
+    }
+
+    private static Instant expiration(VcContainer container) {
+        var expirationDate = container.credential().getExpirationDate();
+        if (expirationDate == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(expirationDate);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private record Snapshot(List<VcContainer> all,
+                            Map<String, List<VcContainer>> byType,
+                            Map<String, List<VcContainer>> byIssuer,
+                            Map<String, List<VcContainer>> bySubject,
+                            NavigableMap<Instant, List<VcContainer>> byExpiry) {
+    }
+}
@@ -14,31 +14,27 @@
 
 package org.eclipse.dataspacetck.dcp.system.cs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.SignedJWT;
-import okhttp3.FormBody;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
 import org.eclipse.dataspacetck.core.spi.system.ServiceConfiguration;
 import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
+import org.eclipse.dataspacetck.dcp.system.sts.RemoteStsClient;
 import org.eclipse.dataspacetck.dcp.system.sts.SecureTokenServer;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
-import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyMap;
 import static java.util.UUID.randomUUID;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
 import static org.eclipse.dataspacetck.dcp.system.cs.CredentialServiceImpl.DEFAULT_SCOPE_PATTERN;
 import static org.eclipse.dataspacetck.dcp.system.cs.CredentialServiceImpl.validateScopePattern;
@@ -46,39 +42,67 @@ import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
 import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
 
 public class SecureTokenServerImpl implements SecureTokenServer {
-    private final Map<String, String> readTokens = new ConcurrentHashMap<>();
+    public static final Duration DEFAULT_READ_TOKEN_TTL = Duration.ofMinutes(10);
+
+    private final Map<String, ReadToken> readTokens = new ConcurrentHashMap<>();
     private final String stsUrl;
-    private final String stsClientId;
-    private final String stsClientSecret;
+    private final RemoteStsClient remoteStsClient;
     private final Pattern scopePattern;
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
+    private final Duration readTokenTtl;
+    private final Clock clock;
+    private volatile Instant nextSweep = Instant.MIN;
 
     public SecureTokenServerImpl(ServiceConfiguration configuration) {
         this(configuration, DEFAULT_SCOPE_PATTERN);
     }
 
     public SecureTokenServerImpl(ServiceConfiguration configuration, Pattern scopePattern) {
+        this(configuration, scopePattern, Clock.systemUTC());
+    }
+
+    public SecureTokenServerImpl(ServiceConfiguration configuration, Pattern scopePattern, Clock clock) {
         this.stsUrl = configuration.getPropertyAsString(TCK_PREFIX + ".sts.url", null);
-        this.stsClientId = configuration.getPropertyAsString(TCK_PREFIX + ".sts.client.id", null);
-        this.stsClientSecret = configuration.getPropertyAsString(TCK_PREFIX + ".sts.client.secret", null);
+        var stsClientId = configuration.getPropertyAsString(TCK_PREFIX + ".sts.client.id", null);
+        var stsClientSecret = configuration.getPropertyAsString(TCK_PREFIX + ".sts.client.secret", null);
+        if (stsUrl != null && stsClientId != null && stsClientSecret != null) {
+            var margin = configuration.getPropertyAsString(TCK_PREFIX + ".sts.token.refresh.margin", null);
+            var cache = configuration.getPropertyAsString(TCK_PREFIX + ".sts.token.cache", null);
+            this.remoteStsClient = RemoteStsClient.Builder.newInstance()
+                    .stsUrl(stsUrl)
+                    .clientId(stsClientId)
+                    .clientSecret(stsClientSecret)
+                    .refreshMargin(margin == null ? RemoteStsClient.DEFAULT_REFRESH_MARGIN : Duration.ofMillis(Long.parseLong(margin)))
+                    .cacheEnabled(Boolean.parseBoolean(cache))
+                    .clock(clock)
+                    .build();
+        } else {
+            this.remoteStsClient = null;
+        }
+        var ttl = configuration.getPropertyAsString(TCK_PREFIX + ".sts.read.token.ttl", null);
+        this.readTokenTtl = ttl == null ? DEFAULT_READ_TOKEN_TTL : Duration.ofMillis(Long.parseLong(ttl));
         this.scopePattern = validateScopePattern(scopePattern);
+        this.clock = clock;
     }
 
     @Override
     public Result<String> obtainReadToken(String bearerDid, List<String> scopes) {
+        return obtainReadTokenAsync(bearerDid, scopes).join();
+    }
 
+    @Override
+    public CompletableFuture<Result<String>> obtainReadTokenAsync(String bearerDid, List<String> scopes) {
         if (stsUrl == null) { // use embedded holder STS
             var types = transformScopes(scopes);
-            var token = randomUUID() + "::" + bearerDid + "::" + types;
-            readTokens.put(token, token);
-            return success(token);
+            var now = clock.instant();
+            sweep(now);
+            var token = randomUUID() + "::" + bearerDid + "::" + String.join(",", types);
+            readTokens.put(token, new ReadToken(bearerDid, types, now, now.plus(readTokenTtl)));
+            return completedFuture(success(token));
         } else { // use external STS
-            var scopeString = String.join(" ", scopes);
-            if (stsClientId == null || stsClientSecret == null) {
-                return failure("When overriding the STS URL, client ID and secret must be provided");
+            if (remoteStsClient == null) {
+                return completedFuture(failure("When overriding the STS URL, client ID and secret must be provided"));
             }
-            return requestRemoteAccessToken(stsUrl, stsClientId, stsClientSecret, bearerDid, scopeString);
+            return remoteStsClient.obtainToken(bearerDid, scopes);
         }
     }
 
@@ -90,17 +114,17 @@ public class SecureTokenServerImpl implements SecureTokenServer {
 
     @Override
     public Result<List<String>> validateReadToken(String bearerDid, String token) {
-        if (readTokens.remove(token) == null) {
+        var readToken = readTokens.remove(token);
+        if (readToken == null) {
             return failure("Token not valid");
         }
-        var parts = token.split("::");
-        if (parts.length != 3) {
-            return failure("Invalid token format");
+        if (readToken.isExpired(clock.instant())) {
+            return failure("Token has expired");
         }
-        if (!parts[1].equals(bearerDid)) {
+        if (!readToken.bearerDid().equals(bearerDid)) {
             return failure("Token binding not valid");
         }
-        return success(Arrays.asList(parts[2].split(",")));
+        return success(readToken.types());
     }
 
     @Override
@@ -126,54 +150,39 @@ public class SecureTokenServerImpl implements SecureTokenServer {
     }
 
     @NotNull
-    private String transformScopes(List<String> scopes) {
+    private List<String> transformScopes(List<String> scopes) {
         return scopes.stream().map(scope -> {
             var matcher = scopePattern.matcher(scope);
             if (!matcher.matches()) {
                 throw new IllegalArgumentException("Invalid scope: " + scope);
             }
             return matcher.group("type");
-        }).collect(Collectors.joining(","));
+        }).toList();
     }
 
     /**
-     * Request a token from a remote ("real") STS
-     *
-     * @param stsUrl          the URL of the STS
-     * @param stsClientId     the client ID for the token request
-     * @param stsClientSecret the client secret for the token request
-     * @param audience        the desired 'aud' claim of the token
-     * @param scopes          a space-separated list of scopes to be included in the token
-     * @return the access token (i.e. the "inner" token) returned from the STS
+     * Removes read tokens that were issued but never used. Runs at most once per quarter of the token lifetime, so the
+     * cost is amortized over the tokens issued in between.
      */
-    private Result<String> requestRemoteAccessToken(String stsUrl, String stsClientId, String stsClientSecret, String audience, String scopes) {
-        var rq = new Request.Builder()
-                .url(stsUrl + "/token")
-                .addHeader("Content-Type", "application/x-www-form-urlencoded")
-                .post(new FormBody.Builder()
-                        .add("grant_type", "client_credentials")
-                        .add("client_id", stsClientId)
-                        .add("client_secret", stsClientSecret)
-                        .add("audience", audience)
-                        .add("bearer_access_scope", scopes)
-                        .build())
-                .build();
+    private void sweep(Instant now) {
+        if (now.isBefore(nextSweep)) {
+            return;
+        }
+        nextSweep = now.plus(readTokenTtl.dividedBy(4));
+        readTokens.values().removeIf(token -> token.isExpired(now));
+    }
 
-        var client = new OkHttpClient();
-        try (var response = client.newCall(rq).execute()) {
-            if (response.isSuccessful()) {
-                var body = response.body();
-                if (body != null) {
-                    var token = objectMapper.readValue(body.string(), Map.class).get("access_token").toString();
-                    var tokenClaim = SignedJWT.parse(token).getJWTClaimsSet().getClaim("token").toString();
-                    return success(tokenClaim);
-                }
-            }
-            return failure("Request failed with HTTP code " + response.code());
-        } catch (IOException e) {
-            return failure("Error requesting token: " + e.getMessage());
-        } catch (ParseException e) {
-            return failure("Failed to parse token: " + e.getMessage());
+    /**
+     * A read token issued by the embedded STS.
+     *
+     * @param bearerDid the DID the token is bound to
+     * @param types     the credential types the token grants access to
+     * @param issuedAt  the issue time
+     * @param expiresAt the expiration time
+     */
+    private record ReadToken(String bearerDid, List<String> types, Instant issuedAt, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
         }
     }
 
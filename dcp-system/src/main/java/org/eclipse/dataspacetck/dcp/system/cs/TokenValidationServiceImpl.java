@@ -20,6 +20,7 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import org.eclipse.dataspacetck.dcp.system.model.did.VerificationMethod;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
 import org.eclipse.dataspacetck.dcp.system.verifier.BaseTokenValidationService;
+import org.eclipse.dataspacetck.dcp.system.verifier.ReplayStore;
 import org.jetbrains.annotations.NotNull;
 
 import java.text.ParseException;
@@ -36,6 +37,11 @@ public class TokenValidationServiceImpl extends BaseTokenValidationService {
         this.audience = audience;
     }
 
+    public TokenValidationServiceImpl(String audience, ReplayStore replayStore) {
+        super(replayStore);
+        this.audience = audience;
+    }
+
     @NotNull
     @Override
     protected Result<VerificationMethod> validateClaims(JWTClaimsSet claims, JWSHeader header) throws ParseException, JOSEException {
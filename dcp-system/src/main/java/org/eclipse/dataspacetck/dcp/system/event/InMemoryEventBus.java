@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.event;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Event bus delivering events synchronously to subscribers. Subscribers are expected to be short; a failing subscriber
+ * does not affect the publisher or other subscribers.
+ */
+public class InMemoryEventBus implements EventBus {
+    private final List<Registration<?>> registrations = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(DcpEvent event) {
+        for (var registration : registrations) {
+            registration.deliver(event);
+        }
+    }
+
+    @Override
+    public <E extends DcpEvent> Subscription subscribe(Class<E> type, Consumer<? super E> subscriber) {
+        var registration = new Registration<>(type, subscriber);
+        registrations.add(registration);
+        return () -> registrations.remove(registration);
+    }
+
+    @Override
+    public <E extends DcpEvent> CompletableFuture<E> next(Class<E> type, Predicate<? super E> filter) {
+        var future = new CompletableFuture<E>();
+        var subscription = subscribe(type, event -> {
+            try {
+                if (!future.isDone() && filter.test(event)) {
+                    future.complete(event);
+                }
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        // also unsubscribes when the caller cancels or times out the future
+        future.whenComplete((event, error) -> subscription.close());
+        return future;
+    }
+
+    /**
+     * Returns the number of active subscriptions.
+     */
+    public int subscriptions() {
+        return registrations.size();
+    }
+
+    /**
+     * A subscription, compared by identity so the same subscriber can be registered more than once.
+     */
+    private static final class Registration<E extends DcpEvent> {
+        private final Class<E> type;
+        private final Consumer<? super E> subscriber;
+
+        private Registration(Class<E> type, Consumer<? super E> subscriber) {
+            this.type = type;
+            this.subscriber = subscriber;
+        }
+
+        void deliver(DcpEvent event) {
+            if (!type.isInstance(event)) {
+                return;
+            }
+            try {
+                subscriber.accept(type.cast(event));
+            } catch (RuntimeException e) {
+                // subscribers must not interfere with the publisher
+            }
+        }
+    }
+}
@@ -18,6 +18,9 @@ import org.eclipse.dataspacetck.dcp.system.model.vc.CredentialFormat;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Generates credentials according to a {@link CredentialFormat}.
  */
@@ -33,4 +36,19 @@ public interface CredentialGenerator {
      */
     Result<String> generateCredential(VerifiableCredential credential);
 
+    /**
+     * Generates signed credentials, returning them in the order of the given credentials.
+     */
+    default Result<List<String>> generateCredentials(List<VerifiableCredential> credentials) {
+        var generated = new ArrayList<String>();
+        for (var credential : credentials) {
+            var result = generateCredential(credential);
+            if (result.failed()) {
+                return Result.failure(result.getFailure(), result.getErrorType());
+            }
+            generated.add(result.getContent());
+        }
+        return Result.success(generated);
+    }
+
 }
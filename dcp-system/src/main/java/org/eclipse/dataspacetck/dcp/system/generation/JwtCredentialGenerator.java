@@ -18,9 +18,14 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.eclipse.dataspacetck.dcp.system.model.vc.CredentialFormat;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+import org.eclipse.dataspacetck.dcp.system.revocation.ShardedRevocationService;
+import org.eclipse.dataspacetck.dcp.system.revocation.StatusListAllocation;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
@@ -29,15 +34,23 @@ import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.dcp.system.model.vc.CredentialFormat.VC1_0_JWT;
 
 /**
- * Generates a verifiable credential using the JWT format.
+ * Generates a verifiable credential using the JWT format. If a revocation service is set, credentials without a
+ * {@code credentialStatus} are assigned an entry in one of its status lists. Credentials generated together are signed as
+ * one batch.
  */
 public class JwtCredentialGenerator implements CredentialGenerator {
     private final String issuerDid;
+    private final ShardedRevocationService revocationService;
     private KeyService keyService;
 
     public JwtCredentialGenerator(String issuerDid, KeyService keyService) {
+        this(issuerDid, keyService, null);
+    }
+
+    public JwtCredentialGenerator(String issuerDid, KeyService keyService, @Nullable ShardedRevocationService revocationService) {
         this.issuerDid = issuerDid;
         this.keyService = keyService;
+        this.revocationService = revocationService;
     }
 
     @Override
@@ -47,7 +60,31 @@ public class JwtCredentialGenerator implements CredentialGenerator {
 
     @Override
     public Result<String> generateCredential(VerifiableCredential credential) {
+        return Result.success(generateCredentials(List.of(credential)).getContent().get(0));
+    }
+
+    @Override
+    public Result<List<String>> generateCredentials(List<VerifiableCredential> credentials) {
         var now = new Date();
+        var allocations = new ArrayList<StatusListAllocation>();
+        List<String> jwts;
+        try {
+            var claims = new ArrayList<JWTClaimsSet>();
+            for (var credential : credentials) {
+                claims.add(createClaims(credential, now, allocations));
+            }
+            var keyId = issuerDid + "#" + keyService.getPublicKey().getKeyID();
+            jwts = keyService.signAll(Map.of("kid", keyId), claims);
+        } catch (RuntimeException e) {
+            // the entries were not issued and can be handed out again
+            allocations.forEach(revocationService::release);
+            throw e;
+        }
+        allocations.forEach(revocationService::markIssued);
+        return Result.success(jwts);
+    }
+
+    private JWTClaimsSet createClaims(VerifiableCredential credential, Date now, List<StatusListAllocation> allocations) {
         if (!issuerDid.equals(credential.getIssuer())) {
             throw new RuntimeException(format("Credential issuer '%s' not equal to issuer DID: %s", credential.getIssuer(), issuerDid));
         }
@@ -55,16 +92,20 @@ public class JwtCredentialGenerator implements CredentialGenerator {
         if (credentialSubjectId == null) {
             throw new RuntimeException("credentialSubject must contain an 'id' property");
         }
-        var claims = new JWTClaimsSet.Builder()
+        var vc = credential.toMap();
+        if (revocationService != null && credential.getCredentialStatus() == null) {
+            var allocation = revocationService.allocate();
+            allocations.add(allocation);
+            vc.put("credentialStatus", allocation.toCredentialStatus(revocationService.getStatusEntryType()).toMap());
+        }
+        return new JWTClaimsSet.Builder()
                 .issuer(issuerDid)
                 .subject(credentialSubjectId)
                 .claim("jti", randomUUID())
                 .notBeforeTime(now)
                 .issueTime(now)
                 .expirationTime(Date.from(now().plusSeconds(300)))
-                .claim("vc", credential.toMap())
+                .claim("vc", vc)
                 .build();
-        var keyId = issuerDid + "#" + keyService.getPublicKey().getKeyID();
-        return Result.success(keyService.sign(Map.of("kid", keyId), claims));
     }
 }
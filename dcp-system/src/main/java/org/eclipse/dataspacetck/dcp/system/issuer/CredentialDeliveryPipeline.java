@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.issuer;
+
+import org.eclipse.dataspacetck.dcp.system.cs.CredentialMessage;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
+
+/**
+ * Delivers issued credentials to holders on top of the {@link CredentialDeliveryService}.
+ * <p>
+ * Deliveries to the same holder are collected for the coalescing window and then sent together, one
+ * {@link CredentialMessage} per issuer process. Sends that fail with an I/O error or a holder response that may succeed
+ * later (5xx, 408, 429) are retried according to the {@link RetryPolicy}; any other failure, such as a 4xx response,
+ * rejects the delivery immediately. Each holder has a {@link CircuitBreaker}, so a holder that is down is not called
+ * until it is likely to have recovered; attempts rejected by an open breaker count against the retry limit. The
+ * outcome of every delivery is reported to the listener.
+ */
+public class CredentialDeliveryPipeline {
+    public static final Duration DEFAULT_COALESCE_WINDOW = Duration.ofMillis(500);
+
+    private final Map<String, List<Delivery>> batches = new ConcurrentHashMap<>();
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private CredentialDeliveryService deliveryService;
+    private Sender sender;
+    private DeliveryListener listener = (issuerPid, outcome) -> {
+    };
+    private RetryPolicy retryPolicy = RetryPolicy.defaults();
+    private Duration coalesceWindow = DEFAULT_COALESCE_WINDOW;
+    private int failureThreshold = CircuitBreaker.DEFAULT_FAILURE_THRESHOLD;
+    private Duration openDuration = CircuitBreaker.DEFAULT_OPEN_DURATION;
+    private Clock clock = Clock.systemUTC();
+
+    private CredentialDeliveryPipeline() {
+    }
+
+    /**
+     * Queues a credential message for delivery to the holder.
+     *
+     * @return a failure if the delivery could not be scheduled
+     */
+    public Result<Void> submit(String holderDid, String issuerDid, CredentialMessage message) {
+        var delivery = new Delivery(issuerDid, message);
+        var opened = new boolean[1];
+        batches.compute(holderDid, (key, batch) -> {
+            if (batch == null) {
+                batch = new ArrayList<>();
+                opened[0] = true;
+            }
+            batch.add(delivery);
+            return batch;
+        });
+        if (!opened[0]) {
+            return success();
+        }
+        var scheduled = deliveryService.schedule(() -> flush(holderDid), coalesceWindow);
+        if (scheduled.failed()) {
+            // nobody will flush the batch, fail every delivery that joined it
+            var batch = batches.remove(holderDid);
+            if (batch != null) {
+                batch.stream().filter(d -> d != delivery).forEach(d -> listener.completed(d.message().getIssuerPid(), failure(scheduled.getFailure())));
+            }
+            return failure(scheduled.getFailure(), Result.ErrorType.GENERAL_ERROR);
+        }
+        return success();
+    }
+
+    /**
+     * Returns the circuit breaker state for the holder.
+     */
+    public CircuitBreaker.State getBreakerState(String holderDid) {
+        var breaker = breakers.get(holderDid);
+        return breaker == null ? CircuitBreaker.State.CLOSED : breaker.getState();
+    }
+
+    private void flush(String holderDid) {
+        var batch = batches.remove(holderDid);
+        if (batch == null) {
+            return;
+        }
+        batch.forEach(delivery -> attempt(new Attempt(holderDid, delivery.issuerDid(), delivery.message(), 1)));
+    }
+
+    private void attempt(Attempt attempt) {
+        var breaker = breakers.computeIfAbsent(attempt.holderDid(), k -> new CircuitBreaker(failureThreshold, openDuration, clock));
+        if (!breaker.tryAcquire()) {
+            retry(attempt, "Circuit open for holder " + attempt.holderDid(), breaker.remainingOpen());
+            return;
+        }
+        try {
+            sender.send(attempt.holderDid(), attempt.issuerDid(), attempt.message());
+        } catch (Exception e) {
+            var reason = Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName());
+            if (isRetryable(e)) {
+                breaker.recordFailure();
+                retry(attempt, reason, Duration.ZERO);
+            } else {
+                // the holder answered, or was never called: neither is an outage
+                breaker.recordSuccess();
+                listener.completed(attempt.issuerPid(), failure("Delivery rejected: " + reason));
+            }
+            return;
+        }
+        breaker.recordSuccess();
+        listener.completed(attempt.issuerPid(), success());
+    }
+
+    /**
+     * Returns true if the send failed with an I/O error or a holder response that may succeed later.
+     */
+    private static boolean isRetryable(Throwable throwable) {
+        for (var cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HolderResponseException response) {
+                return response.isRetryable();
+            }
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void retry(Attempt attempt, String reason, Duration minimumDelay) {
+        if (attempt.number() >= retryPolicy.maxAttempts()) {
+            listener.completed(attempt.issuerPid(), failure("Delivery failed after %d attempts: %s".formatted(attempt.number(), reason)));
+            return;
+        }
+        var backoff = retryPolicy.backoff(attempt.number());
+        var delay = backoff.compareTo(minimumDelay) < 0 ? minimumDelay : backoff;
+        var next = new Attempt(attempt.holderDid(), attempt.issuerDid(), attempt.message(), attempt.number() + 1);
+        var scheduled = deliveryService.schedule(() -> attempt(next), delay);
+        if (scheduled.failed()) {
+            listener.completed(attempt.issuerPid(), failure("%s, retry not scheduled: %s".formatted(reason, scheduled.getFailure())));
+        }
+    }
+
+    /**
+     * Sends a credential message to the holder, throwing if it was not accepted. Unsuccessful holder responses are
+     * reported as {@link HolderResponseException}.
+     */
+    @FunctionalInterface
+    public interface Sender {
+        void send(String holderDid, String issuerDid, CredentialMessage message) throws Exception;
+    }
+
+    /**
+     * Receives the outcome of deliveries.
+     */
+    @FunctionalInterface
+    public interface DeliveryListener {
+        /**
+         * Called once for every delivered or abandoned credential message.
+         *
+         * @param issuerPid the issuer process id of the message
+         * @param outcome   success if the holder accepted the credentials, otherwise the reason they were not delivered
+         */
+        void completed(String issuerPid, Result<Void> outcome);
+    }
+
+    private record Delivery(String issuerDid, CredentialMessage message) {
+    }
+
+    private record Attempt(String holderDid, String issuerDid, CredentialMessage message, int number) {
+
+        String issuerPid() {
+            return message.getIssuerPid();
+        }
+    }
+
+    public static final class Builder {
+        private final CredentialDeliveryPipeline pipeline = new CredentialDeliveryPipeline();
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder deliveryService(CredentialDeliveryService deliveryService) {
+            pipeline.deliveryService = deliveryService;
+            return this;
+        }
+
+        public Builder sender(Sender sender) {
+            pipeline.sender = sender;
+            return this;
+        }
+
+        public Builder listener(DeliveryListener listener) {
+            pipeline.listener = listener;
+            return this;
+        }
+
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            pipeline.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the time deliveries to the same holder are collected before they are sent.
+         */
+        public Builder coalesceWindow(Duration coalesceWindow) {
+            pipeline.coalesceWindow = coalesceWindow;
+            return this;
+        }
+
+        /**
+         * Sets the number of consecutive failures after which calls to a holder are suspended.
+         */
+        public Builder failureThreshold(int failureThreshold) {
+            pipeline.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the time calls to a failing holder are suspended.
+         */
+        public Builder openDuration(Duration openDuration) {
+            pipeline.openDuration = openDuration;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            pipeline.clock = clock;
+            return this;
+        }
+
+        public CredentialDeliveryPipeline build() {
+            Objects.requireNonNull(pipeline.deliveryService, "deliveryService");
+            Objects.requireNonNull(pipeline.sender, "sender");
+            return pipeline;
+        }
+    }
+}
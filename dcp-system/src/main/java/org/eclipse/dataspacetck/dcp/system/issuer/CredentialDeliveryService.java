@@ -0,0 +1,216 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.issuer;
+
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
+
+/**
+ * Runs credential deliveries to holders. Deliveries are delayed on a single shared scheduler thread, which hands them
+ * to a bounded pool of worker threads for the blocking HTTP call. The number of pending deliveries is bounded: when the
+ * limit is reached, callers wait up to the offer timeout for a free slot and the delivery is rejected afterwards.
+ * <p>
+ * Failures of a delivery complete its future exceptionally instead of being lost on a worker thread. On shutdown, no
+ * new deliveries are accepted and pending ones, including those that are still delayed, are run to completion.
+ */
+public class CredentialDeliveryService {
+    public static final int DEFAULT_WORKERS = 4;
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final Duration DEFAULT_OFFER_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+    private final Semaphore capacity;
+    private final int maxPending;
+    private final Duration offerTimeout;
+    private volatile boolean shutdown;
+
+    private CredentialDeliveryService(int workerCount, int capacity, Duration offerTimeout) {
+        this.capacity = new Semaphore(capacity);
+        this.maxPending = capacity;
+        this.offerTimeout = offerTimeout;
+        var scheduledExecutor = new ScheduledThreadPoolExecutor(1, threadFactory("dcp-delivery-scheduler"));
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        scheduler = scheduledExecutor;
+        // the queue is bounded by the capacity semaphore
+        var workerExecutor = new ThreadPoolExecutor(workerCount, workerCount, 60, SECONDS, new LinkedBlockingQueue<>(), threadFactory("dcp-delivery-worker"));
+        workerExecutor.allowCoreThreadTimeOut(true);
+        workers = workerExecutor;
+    }
+
+    /**
+     * Schedules a delivery.
+     *
+     * @param delivery the delivery, which may block
+     * @param delay    the time to wait before the delivery is run
+     * @return the future completed when the delivery has run, or a failure if the delivery was not accepted
+     */
+    public Result<CompletableFuture<Void>> schedule(Runnable delivery, Duration delay) {
+        if (shutdown) {
+            return failure("Credential delivery is shut down");
+        }
+        try {
+            if (!capacity.tryAcquire(offerTimeout.toMillis(), MILLISECONDS)) {
+                return failure("Too many pending credential deliveries");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failure("Interrupted while waiting to schedule a credential delivery");
+        }
+        var future = new CompletableFuture<Void>();
+        try {
+            scheduler.schedule(() -> dispatch(delivery, future), delay.toMillis(), MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            complete(future, e);
+            return failure("Credential delivery is shut down");
+        }
+        return success(future);
+    }
+
+    /**
+     * Returns the number of deliveries that are delayed, queued or running.
+     */
+    public int pending() {
+        return maxPending - capacity.availablePermits();
+    }
+
+    /**
+     * Stops accepting deliveries and waits for the pending ones to complete.
+     *
+     * @return true if all pending deliveries completed within the timeout
+     */
+    public boolean shutdown(Duration timeout) {
+        shutdown = true;
+        var deadline = System.nanoTime() + timeout.toNanos();
+        // delayed deliveries still run after shutdown and are handed to the workers
+        scheduler.shutdown();
+        try {
+            var drained = scheduler.awaitTermination(remaining(deadline), MILLISECONDS);
+            workers.shutdown();
+            drained = drained && workers.awaitTermination(remaining(deadline), MILLISECONDS);
+            if (!drained) {
+                scheduler.shutdownNow();
+                workers.shutdownNow();
+            }
+            return drained;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            scheduler.shutdownNow();
+            workers.shutdownNow();
+            return false;
+        }
+    }
+
+    private void dispatch(Runnable delivery, CompletableFuture<Void> future) {
+        try {
+            workers.execute(() -> {
+                try {
+                    delivery.run();
+                    complete(future, null);
+                } catch (Throwable e) {
+                    complete(future, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            complete(future, e);
+        }
+    }
+
+    /**
+     * Frees the slot of the delivery before completing it, so callers observing the completion see it freed.
+     */
+    private void complete(CompletableFuture<Void> future, Throwable error) {
+        capacity.release();
+        if (error == null) {
+            future.complete(null);
+        } else {
+            future.completeExceptionally(error);
+        }
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, (deadline - System.nanoTime()) / 1_000_000);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        var counter = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static final class Builder {
+        private int workers = DEFAULT_WORKERS;
+        private int capacity = DEFAULT_CAPACITY;
+        private Duration offerTimeout = DEFAULT_OFFER_TIMEOUT;
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Sets the number of threads running deliveries concurrently.
+         */
+        public Builder workers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of pending deliveries.
+         */
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the time a caller waits for a free slot when the maximum number of deliveries is pending.
+         */
+        public Builder offerTimeout(Duration offerTimeout) {
+            this.offerTimeout = offerTimeout;
+            return this;
+        }
+
+        public CredentialDeliveryService build() {
+            if (workers <= 0 || capacity <= 0) {
+                throw new IllegalArgumentException("Workers and capacity must be positive");
+            }
+            return new CredentialDeliveryService(workers, capacity, offerTimeout);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.issuer;
+
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
+
+/**
+ * Tracks the status of credential requests received by the issuer. Requests are looked up by issuer process id and
+ * indexed by holder process id. A request starts as {@link State#RECEIVED} and moves once to either
+ * {@link State#ISSUED} or {@link State#REJECTED}; concurrent transitions are resolved atomically, only the first one
+ * succeeds.
+ * <p>
+ * Requests in a terminal state are kept for the retention period and removed afterwards. The number of entries is
+ * bounded: when the limit is reached, the oldest terminal entries are removed early, and new requests are refused if
+ * all entries are still in progress.
+ */
+public class CredentialRequestRegistry {
+    public static final Duration DEFAULT_RETENTION = Duration.ofMinutes(10);
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> holderIndex = new ConcurrentHashMap<>();
+    private final Queue<Entry> terminated = new ConcurrentLinkedQueue<>();
+    private Duration retention = DEFAULT_RETENTION;
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+    private Clock clock = Clock.systemUTC();
+
+    private CredentialRequestRegistry() {
+    }
+
+    /**
+     * Registers a received request.
+     *
+     * @return a failure if the issuer process id is already registered or the registry is full
+     */
+    public Result<Void> register(String issuerPid, CredentialRequestMessage request) {
+        expire();
+        while (entries.size() >= maxEntries) {
+            var oldest = terminated.poll();
+            if (oldest == null) {
+                return failure("Too many credential requests in progress", Result.ErrorType.GENERAL_ERROR);
+            }
+            remove(oldest);
+        }
+        var entry = new Entry(issuerPid, request);
+        if (entries.putIfAbsent(issuerPid, entry) != null) {
+            return failure("Credential request already registered: " + issuerPid, Result.ErrorType.BAD_REQUEST);
+        }
+        holderIndex.compute(request.getHolderPid(), (key, pids) -> {
+            var set = pids == null ? ConcurrentHashMap.<String>newKeySet() : pids;
+            set.add(issuerPid);
+            return set;
+        });
+        return success();
+    }
+
+    public Optional<Entry> get(String issuerPid) {
+        return Optional.ofNullable(entries.get(issuerPid));
+    }
+
+    /**
+     * Returns the requests made under the given holder process id.
+     */
+    public List<Entry> findByHolderPid(String holderPid) {
+        var pids = holderIndex.get(holderPid);
+        if (pids == null) {
+            return List.of();
+        }
+        return pids.stream().map(entries::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Moves a received request to a terminal state.
+     *
+     * @return true if the request was in the received state and has been moved
+     */
+    public boolean transition(String issuerPid, State target) {
+        if (target == State.RECEIVED) {
+            throw new IllegalArgumentException("Requests can only be moved to a terminal state");
+        }
+        var entry = entries.get(issuerPid);
+        if (entry == null || !entry.state.compareAndSet(State.RECEIVED, target)) {
+            return false;
+        }
+        entry.terminatedAt = clock.millis();
+        terminated.add(entry);
+        return true;
+    }
+
+    /**
+     * Removes a request regardless of its state.
+     */
+    public void remove(String issuerPid) {
+        var entry = entries.get(issuerPid);
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes terminal entries whose retention period has passed. Entries expire in the order they terminated.
+     */
+    public void expire() {
+        var cutoff = clock.millis() - retention.toMillis();
+        Entry head;
+        while ((head = terminated.peek()) != null && head.terminatedAt <= cutoff) {
+            if (terminated.remove(head)) {
+                remove(head);
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (!entries.remove(entry.issuerPid, entry)) {
+            return;
+        }
+        holderIndex.computeIfPresent(entry.getHolderPid(), (key, pids) -> {
+            pids.remove(entry.issuerPid);
+            return pids.isEmpty() ? null : pids;
+        });
+    }
+
+    /**
+     * The state of a credential request.
+     */
+    public enum State {
+        RECEIVED, ISSUED, REJECTED
+    }
+
+    /**
+     * A registered credential request.
+     */
+    public static final class Entry {
+        private final String issuerPid;
+        private final CredentialRequestMessage request;
+        private final AtomicReference<State> state = new AtomicReference<>(State.RECEIVED);
+        private volatile long terminatedAt;
+
+        private Entry(String issuerPid, CredentialRequestMessage request) {
+            this.issuerPid = issuerPid;
+            this.request = request;
+        }
+
+        public String getIssuerPid() {
+            return issuerPid;
+        }
+
+        public String getHolderPid() {
+            return request.getHolderPid();
+        }
+
+        public CredentialRequestMessage getRequest() {
+            return request;
+        }
+
+        public State getState() {
+            return state.get();
+        }
+    }
+
+    public static final class Builder {
+        private final CredentialRequestRegistry registry = new CredentialRequestRegistry();
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Sets the time requests in a terminal state are kept.
+         */
+        public Builder retention(Duration retention) {
+            registry.retention = retention;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests kept.
+         */
+        public Builder maxEntries(int maxEntries) {
+            registry.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            registry.clock = clock;
+            return this;
+        }
+
+        public CredentialRequestRegistry build() {
+            if (registry.maxEntries <= 0) {
+                throw new IllegalArgumentException("The maximum number of entries must be positive");
+            }
+            return registry;
+        }
+    }
+}
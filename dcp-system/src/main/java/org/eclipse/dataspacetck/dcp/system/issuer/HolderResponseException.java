@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.issuer;
+
+/**
+ * Thrown when a holder answers a credential message with an unsuccessful HTTP status.
+ */
+public class HolderResponseException extends RuntimeException {
+    private final int code;
+
+    public HolderResponseException(int code) {
+        super("Holder responded with HTTP code " + code);
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Returns true if the holder may accept the message later: on server errors, request timeouts (408) and rate limiting
+     * (429). Other client errors mean the holder rejected the message.
+     */
+    public boolean isRetryable() {
+        return code >= 500 || code == 408 || code == 429;
+    }
+}
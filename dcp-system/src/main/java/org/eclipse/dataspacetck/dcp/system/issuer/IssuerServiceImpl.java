@@ -19,31 +19,35 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jwt.JWTClaimsSet;
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
 import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.eclipse.dataspacetck.dcp.system.cs.CredentialMessage;
 import org.eclipse.dataspacetck.dcp.system.cs.CredentialObject;
 import org.eclipse.dataspacetck.dcp.system.cs.TokenValidationService;
 import org.eclipse.dataspacetck.dcp.system.did.DidClient;
+import org.eclipse.dataspacetck.dcp.system.event.CredentialRequestStatusChanged;
+import org.eclipse.dataspacetck.dcp.system.event.EventBus;
+import org.eclipse.dataspacetck.dcp.system.event.InMemoryEventBus;
 import org.eclipse.dataspacetck.dcp.system.generation.JwtCredentialGenerator;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
 import org.eclipse.dataspacetck.dcp.system.model.vc.CredentialFormat;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+import org.eclipse.dataspacetck.dcp.system.revocation.ShardedRevocationService;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.Executors;
 
 import static java.time.Instant.now;
 import static java.util.UUID.randomUUID;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.CREDENTIAL_SERVICE_TYPE;
 import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
 import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
@@ -52,15 +56,37 @@ public class IssuerServiceImpl implements IssuerService {
     private final KeyService issuerKeyService;
     private final TokenValidationService issuerTokenValidationService;
     private final ObjectMapper objectMapper;
-    private final Map<String, RequestStatus> credentialRequests = new java.util.HashMap<>();
+    private final CredentialDeliveryPipeline deliveryPipeline;
+    private final Monitor monitor;
+    private final CredentialRequestRegistry credentialRequests;
+    private final EventBus eventBus;
+    private final ShardedRevocationService revocationService;
     private final Map<String, CredentialObject> supportedCredentials;
     private final Map<String, CredentialFormat> supportedCredentialFormats = Map.of("vc11-sl2021/jwt", CredentialFormat.VC1_0_JWT,
             "vc20-bssl/jwt", CredentialFormat.VC2_0_JOSE);
 
-    public IssuerServiceImpl(KeyService issuerKeyService, TokenValidationService issuerTokenValidationService, Map<String, CredentialObject> supportedCredentials) {
+    public IssuerServiceImpl(KeyService issuerKeyService, TokenValidationService issuerTokenValidationService, Map<String, CredentialObject> supportedCredentials,
+                             CredentialDeliveryService deliveryService, Monitor monitor) {
+        this(issuerKeyService, issuerTokenValidationService, supportedCredentials, deliveryService, RetryPolicy.defaults(),
+                CredentialRequestRegistry.Builder.newInstance().build(), null, new InMemoryEventBus(), monitor);
+    }
+
+    public IssuerServiceImpl(KeyService issuerKeyService, TokenValidationService issuerTokenValidationService, Map<String, CredentialObject> supportedCredentials,
+                             CredentialDeliveryService deliveryService, RetryPolicy retryPolicy, CredentialRequestRegistry credentialRequests,
+                             @Nullable ShardedRevocationService revocationService, EventBus eventBus, Monitor monitor) {
         this.issuerKeyService = issuerKeyService;
+        this.revocationService = revocationService;
         this.issuerTokenValidationService = issuerTokenValidationService;
         this.supportedCredentials = supportedCredentials;
+        this.credentialRequests = credentialRequests;
+        this.eventBus = eventBus;
+        this.monitor = monitor;
+        this.deliveryPipeline = CredentialDeliveryPipeline.Builder.newInstance()
+                .deliveryService(deliveryService)
+                .retryPolicy(retryPolicy)
+                .sender(this::deliverCredentials)
+                .listener(this::deliveryCompleted)
+                .build();
         objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
     }
 
@@ -83,7 +109,7 @@ public class IssuerServiceImpl implements IssuerService {
         } catch (ParseException e) {
             return failure("Error parsing holder's token: " + e.getMessage(), Result.ErrorType.UNAUTHORIZED);
         }
-        var gen = new JwtCredentialGenerator(issuerDid, issuerKeyService);
+        var gen = new JwtCredentialGenerator(issuerDid, issuerKeyService, revocationService);
 
         // parse message
         var credentialRequest = objectMapper.convertValue(credentialRequestMessage, CredentialRequestMessage.class);
@@ -91,17 +117,25 @@ public class IssuerServiceImpl implements IssuerService {
             return failure("Invalid credential request message", Result.ErrorType.BAD_REQUEST);
         }
 
-        // generate CredentialMessage
+        // generate CredentialMessage, signing all requested credentials as one batch
         var correlation = credentialRequest.getHolderPid();
-        var credentials = credentialRequest.getCredentials().stream()
+        var descriptors = credentialRequest.getCredentials().stream()
                 .map(cred -> {
                     var descriptor = supportedCredentials.get(cred.id());
                     if (descriptor == null) {
                         throw new IllegalArgumentException("No CredentialObject found for id: " + cred.id());
                     }
-                    var format = supportedCredentialFormats.get(descriptor.getProfile());
-                    return new CredentialMessage.CredentialContainer(descriptor.getCredentialType(), generateJwtCredential(descriptor.getCredentialType(), gen, holderDid, issuerDid).getContent(), format.profileString);
+                    return descriptor;
                 }).toList();
+        var jwts = gen.generateCredentials(descriptors.stream()
+                .map(descriptor -> createCredential(descriptor.getCredentialType(), holderDid, issuerDid))
+                .toList()).getContent();
+        var credentials = new ArrayList<CredentialMessage.CredentialContainer>();
+        for (var i = 0; i < descriptors.size(); i++) {
+            var descriptor = descriptors.get(i);
+            var format = supportedCredentialFormats.get(descriptor.getProfile());
+            credentials.add(new CredentialMessage.CredentialContainer(descriptor.getCredentialType(), jwts.get(i), format.profileString));
+        }
         var issuerPid = randomUUID().toString();
         var credentialsMessage = CredentialMessage.Builder.newInstance()
                 .holderPid(correlation)
@@ -110,10 +144,18 @@ public class IssuerServiceImpl implements IssuerService {
                 .credentials(credentials)
                 .build();
 
-        credentialRequests.put(issuerPid, new RequestStatus(credentialRequest, "RECEIVED"));
+        // record the request before queueing, the delivery outcome updates its status
+        var registered = credentialRequests.register(issuerPid, credentialRequest);
+        if (registered.failed()) {
+            return failure(registered.getFailure(), registered.getErrorType());
+        }
 
         // send CredentialMessage to holder's Storage API
-        sendBackCredentials(holderDid, issuerDid, credentialsMessage);
+        var delivery = deliveryPipeline.submit(holderDid, issuerDid, credentialsMessage);
+        if (delivery.failed()) {
+            credentialRequests.remove(issuerPid);
+            return failure(delivery.getFailure(), delivery.getErrorType());
+        }
 
         return success(issuerPid);
     }
@@ -125,17 +167,17 @@ public class IssuerServiceImpl implements IssuerService {
         if (!validationResult.succeeded()) {
             return failure(validationResult.getFailure(), Result.ErrorType.UNAUTHORIZED);
         }
-        return Optional.ofNullable(credentialRequests.get(id)).map(rqs -> success(Map.of(
+        return credentialRequests.get(id).map(rqs -> success(Map.of(
                         "type", "CredentialStatus",
-                        "holderPid", rqs.credentialRequest.getHolderPid(),
+                        "holderPid", rqs.getHolderPid(),
                         "issuerPid", id,
-                        "status", rqs.status.toUpperCase()
+                        "status", rqs.getState().name()
                 )))
                 .orElseGet(() -> failure("No credential request found", Result.ErrorType.NOT_FOUND));
     }
 
-    private Result<String> generateJwtCredential(String type, JwtCredentialGenerator gen, String holderDid, String issuerDid) {
-        return gen.generateCredential(VerifiableCredential.Builder.newInstance()
+    private VerifiableCredential createCredential(String type, String holderDid, String issuerDid) {
+        return VerifiableCredential.Builder.newInstance()
                 .credentialSubject(Map.of("id", holderDid))
                 .id(randomUUID().toString())
                 .issuanceDate(now().toString())
@@ -143,48 +185,49 @@ public class IssuerServiceImpl implements IssuerService {
                 .issuer(issuerDid)
                 .type(List.of(type))
                 .credentialSubject(Map.of("id", holderDid, "bar", "baz"))
-                .build());
+                .build();
     }
 
-    private void sendBackCredentials(String holderDid, String issuerDid, CredentialMessage credentialsMsg) {
-        var scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
-        scheduledExecutorService
-                .schedule(() -> {
-                    var claims = new JWTClaimsSet.Builder()
-                            .audience(holderDid)
-                            .issuer(issuerDid)
-                            .subject(issuerDid)
-                            .jwtID(randomUUID().toString())
-                            .issueTime(new Date())
-                            .expirationTime(Date.from(now().plusSeconds(600)))
-                            .build();
-
-                    var token = issuerKeyService.sign(Collections.emptyMap(), claims);
-                    var didClient = new DidClient(false);
-                    var endpoint = didClient.resolveDocument(holderDid).getServiceEntry(CREDENTIAL_SERVICE_TYPE).serviceEndpoint();
-                    String body;
-                    try {
-                        body = objectMapper.writeValueAsString(credentialsMsg);
-                    } catch (JsonProcessingException e) {
-                        throw new RuntimeException(e);
-                    }
-                    var rq = new Request.Builder()
-                            .url(endpoint + "/credentials")
-                            .header("Authorization", "Bearer " + token)
-                            .post(RequestBody.create(body, MediaType.parse("application/json")))
-                            .build();
-
-                    try (var ignored = new OkHttpClient().newCall(rq).execute()) {
-                        // we don't care about the response here
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                }, 500, MILLISECONDS);
-
-        scheduledExecutorService.shutdown();
+    private void deliveryCompleted(String issuerPid, Result<Void> outcome) {
+        var state = outcome.succeeded() ? CredentialRequestRegistry.State.ISSUED : CredentialRequestRegistry.State.REJECTED;
+        if (credentialRequests.transition(issuerPid, state)) {
+            credentialRequests.get(issuerPid).ifPresent(rqs -> eventBus.publish(new CredentialRequestStatusChanged(issuerPid, rqs.getHolderPid(), state.name())));
+        }
+        if (outcome.failed()) {
+            monitor.enableError().message("Delivering credentials %s failed: %s".formatted(issuerPid, outcome.getFailure())).resetMode();
+        }
     }
 
-    private record RequestStatus(CredentialRequestMessage credentialRequest, String status) {
+    private void deliverCredentials(String holderDid, String issuerDid, CredentialMessage credentialsMsg) throws IOException {
+        var claims = new JWTClaimsSet.Builder()
+                .audience(holderDid)
+                .issuer(issuerDid)
+                .subject(issuerDid)
+                .jwtID(randomUUID().toString())
+                .issueTime(new Date())
+                .expirationTime(Date.from(now().plusSeconds(600)))
+                .build();
+
+        var token = issuerKeyService.sign(Collections.emptyMap(), claims);
+        var didClient = new DidClient(false);
+        var endpoint = didClient.resolveDocument(holderDid).getServiceEntry(CREDENTIAL_SERVICE_TYPE).serviceEndpoint();
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(credentialsMsg);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+        var rq = new Request.Builder()
+                .url(endpoint + "/credentials")
+                .header("Authorization", "Bearer " + token)
+                .post(RequestBody.create(body, MediaType.parse("application/json")))
+                .build();
+
+        try (var response = HttpClients.shared().newCall(rq).execute()) {
+            if (!response.isSuccessful()) {
+                throw new HolderResponseException(response.code());
+            }
+        }
     }
 
 }
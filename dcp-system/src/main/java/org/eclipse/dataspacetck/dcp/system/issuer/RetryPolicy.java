@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.issuer;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Controls how often and when a failed credential delivery is retried. The backoff doubles with every attempt up to the
+ * maximum backoff; a random share of it, given by the jitter, is subtracted so retries of deliveries that failed
+ * together are spread out.
+ *
+ * @param maxAttempts    the total number of attempts, including the first one
+ * @param initialBackoff the backoff after the first failed attempt
+ * @param maxBackoff     the upper bound of the backoff
+ * @param jitter         the share of the backoff that is randomized, between 0 and 1
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, double jitter) {
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    public RetryPolicy {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("The number of attempts must be positive");
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("The jitter must be between 0 and 1");
+        }
+    }
+
+    public static RetryPolicy defaults() {
+        return withMaxAttempts(DEFAULT_MAX_ATTEMPTS);
+    }
+
+    public static RetryPolicy withMaxAttempts(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, Duration.ofMillis(500), Duration.ofSeconds(30), 0.5);
+    }
+
+    /**
+     * Returns the time to wait after the given failed attempt.
+     *
+     * @param attempt the attempt that failed, starting at 1
+     */
+    public Duration backoff(int attempt) {
+        var exponent = Math.min(attempt - 1, 30);
+        var backoff = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() * (1L << exponent));
+        var randomized = (long) (backoff * jitter * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(backoff - randomized);
+    }
+}
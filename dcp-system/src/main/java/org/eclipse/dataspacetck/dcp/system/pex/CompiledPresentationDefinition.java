@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.pex;
+
+import org.eclipse.dataspacetck.dcp.system.cs.CredentialStore;
+import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.eclipse.dataspacetck.dcp.system.service.Result.ErrorType.NOT_FOUND;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
+
+/**
+ * A presentation definition whose input descriptors have been compiled into JSONPath accessors and filter predicates.
+ * Instances are immutable and can be evaluated concurrently.
+ *
+ * @param id          the definition id
+ * @param descriptors the compiled input descriptors
+ */
+public record CompiledPresentationDefinition(String id, List<InputDescriptor> descriptors) {
+
+    /**
+     * Selects the credentials that satisfy the input descriptors. Only credentials of the granted types are considered;
+     * they are looked up by type in the store instead of scanning all credentials. Fails if an input descriptor is not
+     * satisfied by any credential, naming the unsatisfied descriptors.
+     *
+     * @param store        the credential store
+     * @param grantedTypes the credential types the requester is authorized to read
+     */
+    public Result<List<VcContainer>> select(CredentialStore store, Collection<String> grantedTypes) {
+        var selected = new LinkedHashSet<VcContainer>();
+        var unsatisfied = new ArrayList<String>();
+        var documents = new HashMap<VcContainer, Object>();
+        for (var descriptor : descriptors) {
+            var satisfied = false;
+            for (var type : grantedTypes) {
+                for (var container : store.findByType(type)) {
+                    if (descriptor.matches(documents.computeIfAbsent(container, CompiledPresentationDefinition::toDocument))) {
+                        selected.add(container);
+                        satisfied = true;
+                    }
+                }
+            }
+            if (!satisfied) {
+                unsatisfied.add(descriptor.id());
+            }
+        }
+        if (!unsatisfied.isEmpty()) {
+            return failure("No credential satisfies input descriptors " + unsatisfied + " of presentation definition " + id, NOT_FOUND);
+        }
+        return success(List.copyOf(selected));
+    }
+
+    /**
+     * Returns the JSON document paths are evaluated against. Paths may address the credential directly (e.g.
+     * {@code $.type}) or through the JWT claim (e.g. {@code $.vc.type}).
+     */
+    private static Object toDocument(VcContainer container) {
+        var credential = container.credential().toMap();
+        var document = new LinkedHashMap<String, Object>(credential);
+        document.put("vc", credential);
+        return document;
+    }
+
+    /**
+     * A compiled input descriptor.
+     *
+     * @param id     the descriptor id
+     * @param fields the field constraints
+     */
+    public record InputDescriptor(String id, List<Field> fields) {
+
+        boolean matches(Object document) {
+            for (var field : fields) {
+                if (!field.optional() && !field.matches(document)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A compiled field constraint. The field matches if any path selects a value that passes the filter.
+     *
+     * @param paths    the alternative paths
+     * @param filter   the filter, accepting any value if the field has no filter
+     * @param optional whether the field may be absent
+     */
+    public record Field(List<JsonPath> paths, Predicate<Object> filter, boolean optional) {
+
+        boolean matches(Object document) {
+            for (var path : paths) {
+                for (var value : path.read(document)) {
+                    if (filter.test(value)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.pex;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles Presentation Exchange field filters, which are JSON Schema fragments, into predicates. The keywords
+ * {@code type}, {@code const}, {@code enum}, {@code pattern}, {@code minLength}, {@code maxLength}, {@code minimum},
+ * {@code maximum}, {@code exclusiveMinimum}, {@code exclusiveMaximum}, {@code contains} and {@code not} are supported;
+ * other keywords are ignored.
+ * <p>
+ * Unless the filter describes an array, an array value matches if any of its elements matches. This allows the common
+ * {@code "path": ["$.type"], "filter": {"type": "string", "pattern": "..."}} form to match a credential's type list.
+ */
+public final class Filters {
+
+    private Filters() {
+    }
+
+    /**
+     * Compiles the filter.
+     *
+     * @throws IllegalArgumentException if the filter is invalid
+     */
+    public static Predicate<Object> compile(Map<String, Object> schema) {
+        var predicate = compileSchema(schema);
+        if ("array".equals(schema.get("type")) || schema.containsKey("contains")) {
+            return predicate;
+        }
+        return value -> predicate.test(value) || value instanceof List<?> list && list.stream().anyMatch(predicate);
+    }
+
+    private static Predicate<Object> compileSchema(Map<String, Object> schema) {
+        Predicate<Object> predicate = value -> true;
+        for (var entry : schema.entrySet()) {
+            predicate = predicate.and(compileKeyword(entry.getKey(), entry.getValue()));
+        }
+        return predicate;
+    }
+
+    private static Predicate<Object> compileKeyword(String keyword, Object argument) {
+        return switch (keyword) {
+            case "type" -> argument instanceof List<?> types
+                    ? types.stream().map(t -> typePredicate(t.toString())).reduce(value -> false, Predicate::or)
+                    : typePredicate(argument.toString());
+            case "const" -> value -> jsonEquals(argument, value);
+            case "enum" -> {
+                var values = asList(keyword, argument);
+                yield value -> values.stream().anyMatch(e -> jsonEquals(e, value));
+            }
+            case "pattern" -> patternPredicate(argument.toString());
+            case "minLength" -> {
+                var min = asNumber(keyword, argument).intValue();
+                yield value -> value instanceof String s && s.length() >= min;
+            }
+            case "maxLength" -> {
+                var max = asNumber(keyword, argument).intValue();
+                yield value -> value instanceof String s && s.length() <= max;
+            }
+            case "minimum" -> numberPredicate(keyword, argument, c -> c >= 0);
+            case "maximum" -> numberPredicate(keyword, argument, c -> c <= 0);
+            case "exclusiveMinimum" -> numberPredicate(keyword, argument, c -> c > 0);
+            case "exclusiveMaximum" -> numberPredicate(keyword, argument, c -> c < 0);
+            case "contains" -> {
+                var element = compileSchema(asMap(keyword, argument));
+                yield value -> value instanceof List<?> list && list.stream().anyMatch(element);
+            }
+            case "not" -> compileSchema(asMap(keyword, argument)).negate();
+            default -> value -> true;
+        };
+    }
+
+    private static Predicate<Object> typePredicate(String type) {
+        return switch (type) {
+            case "string" -> value -> value instanceof String;
+            case "number" -> value -> value instanceof Number;
+            case "integer" -> value -> value instanceof Number n && new BigDecimal(n.toString()).stripTrailingZeros().scale() <= 0;
+            case "boolean" -> value -> value instanceof Boolean;
+            case "array" -> value -> value instanceof List;
+            case "object" -> value -> value instanceof Map;
+            case "null" -> Objects::isNull;
+            default -> throw new IllegalArgumentException("Unsupported filter type: " + type);
+        };
+    }
+
+    private static Predicate<Object> patternPredicate(String regex) {
+        try {
+            var pattern = Pattern.compile(regex);
+            // JSON Schema patterns are not anchored
+            return value -> value instanceof String s && pattern.matcher(s).find();
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid filter pattern: " + regex);
+        }
+    }
+
+    private static Predicate<Object> numberPredicate(String keyword, Object bound, Predicate<Integer> comparison) {
+        var limit = new BigDecimal(asNumber(keyword, bound).toString());
+        return value -> value instanceof Number n && comparison.test(new BigDecimal(n.toString()).compareTo(limit));
+    }
+
+    private static boolean jsonEquals(Object expected, Object value) {
+        if (expected instanceof Number e && value instanceof Number v) {
+            return new BigDecimal(e.toString()).compareTo(new BigDecimal(v.toString())) == 0;
+        }
+        return Objects.equals(expected, value);
+    }
+
+    private static Number asNumber(String keyword, Object value) {
+        if (value instanceof Number number) {
+            return number;
+        }
+        throw new IllegalArgumentException("Filter keyword '" + keyword + "' requires a number");
+    }
+
+    private static List<?> asList(String keyword, Object value) {
+        if (value instanceof List<?> list) {
+            return list;
+        }
+        throw new IllegalArgumentException("Filter keyword '" + keyword + "' requires an array");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(String keyword, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return (Map<String, Object>) map;
+        }
+        throw new IllegalArgumentException("Filter keyword '" + keyword + "' requires an object");
+    }
+}
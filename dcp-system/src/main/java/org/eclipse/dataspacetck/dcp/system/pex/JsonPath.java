@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.pex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compiled JSONPath expression supporting the subset used by Presentation Exchange: the root {@code $}, dot and
+ * bracket property access ({@code .name}, {@code ['name']}), array indexes ({@code [0]}) and wildcards ({@code .*},
+ * {@code [*]}).
+ */
+public final class JsonPath {
+    private final String expression;
+    private final List<Segment> segments;
+
+    private JsonPath(String expression, List<Segment> segments) {
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the expression.
+     *
+     * @throws IllegalArgumentException if the expression is invalid or not supported
+     */
+    public static JsonPath compile(String expression) {
+        if (expression == null || !expression.startsWith("$")) {
+            throw new IllegalArgumentException("JSONPath must start with '$': " + expression);
+        }
+        var segments = new ArrayList<Segment>();
+        var length = expression.length();
+        var i = 1;
+        while (i < length) {
+            var c = expression.charAt(i);
+            if (c == '.') {
+                i++;
+                if (i < length && expression.charAt(i) == '*') {
+                    segments.add(new Wildcard());
+                    i++;
+                    continue;
+                }
+                var start = i;
+                while (i < length && expression.charAt(i) != '.' && expression.charAt(i) != '[') {
+                    i++;
+                }
+                if (start == i) {
+                    throw new IllegalArgumentException("Empty property name in JSONPath: " + expression);
+                }
+                segments.add(new Property(expression.substring(start, i)));
+            } else if (c == '[') {
+                var end = expression.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated bracket in JSONPath: " + expression);
+                }
+                segments.add(parseBracket(expression.substring(i + 1, end).trim(), expression));
+                i = end + 1;
+            } else {
+                throw new IllegalArgumentException("Unexpected character '" + c + "' in JSONPath: " + expression);
+            }
+        }
+        return new JsonPath(expression, List.copyOf(segments));
+    }
+
+    /**
+     * Returns all values the expression selects from the given JSON structure of maps and lists.
+     */
+    public List<Object> read(Object root) {
+        List<Object> current = List.of(root);
+        for (var segment : segments) {
+            var next = new ArrayList<>();
+            for (var value : current) {
+                segment.select(value, next);
+            }
+            if (next.isEmpty()) {
+                return List.of();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static Segment parseBracket(String token, String expression) {
+        if (token.equals("*")) {
+            return new Wildcard();
+        }
+        if (token.length() >= 2 && (token.startsWith("'") && token.endsWith("'") || token.startsWith("\"") && token.endsWith("\""))) {
+            return new Property(token.substring(1, token.length() - 1));
+        }
+        try {
+            return new Index(Integer.parseInt(token));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unsupported bracket expression '" + token + "' in JSONPath: " + expression);
+        }
+    }
+
+    private interface Segment {
+        void select(Object value, List<Object> results);
+    }
+
+    private record Property(String name) implements Segment {
+        @Override
+        public void select(Object value, List<Object> results) {
+            if (value instanceof Map<?, ?> map && map.containsKey(name)) {
+                results.add(map.get(name));
+            }
+        }
+    }
+
+    private record Index(int index) implements Segment {
+        @Override
+        public void select(Object value, List<Object> results) {
+            if (value instanceof List<?> list && index >= 0 && index < list.size()) {
+                results.add(list.get(index));
+            }
+        }
+    }
+
+    private record Wildcard() implements Segment {
+        @Override
+        public void select(Object value, List<Object> results) {
+            if (value instanceof Map<?, ?> map) {
+                results.addAll(map.values());
+            } else if (value instanceof List<?> list) {
+                results.addAll(list);
+            }
+        }
+    }
+}
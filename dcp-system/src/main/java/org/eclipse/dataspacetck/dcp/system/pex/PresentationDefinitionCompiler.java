@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.pex;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.ID;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.ErrorType.BAD_REQUEST;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
+
+/**
+ * Compiles Presentation Exchange definitions. Compiled definitions are cached by id and a digest of their content, so
+ * repeated queries with the same definition skip parsing, while a changed definition reusing an id is compiled again.
+ * The cache does not hold on to the definitions passed in by callers.
+ */
+public class PresentationDefinitionCompiler {
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    // map entries are written in key order, so that equal definitions have the same digest
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    private final Map<String, CompiledPresentationDefinition> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public PresentationDefinitionCompiler() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public PresentationDefinitionCompiler(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the compiled definition, compiling it if it has not been seen before.
+     */
+    @SuppressWarnings("unchecked")
+    public Result<CompiledPresentationDefinition> compile(Object definition) {
+        if (!(definition instanceof Map<?, ?> map) || map.isEmpty()) {
+            return failure("Presentation definition must be a non-empty object", BAD_REQUEST);
+        }
+        var definitionMap = (Map<String, Object>) map;
+        var key = cacheKey(definitionMap);
+        if (key == null) {
+            return failure("Presentation definition is not valid JSON", BAD_REQUEST);
+        }
+        var cached = cache.get(key);
+        if (cached != null) {
+            return success(cached);
+        }
+        try {
+            var compiled = compileDefinition(definitionMap);
+            if (cache.size() >= maxSize) {
+                cache.keySet().stream().findAny().ifPresent(cache::remove);
+            }
+            cache.put(key, compiled);
+            return success(compiled);
+        } catch (IllegalArgumentException | ClassCastException e) {
+            return failure("Invalid presentation definition: " + e.getMessage(), BAD_REQUEST);
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the definition id followed by the SHA-256 digest of its canonical JSON form, or null if the definition
+     * cannot be serialized.
+     */
+    private String cacheKey(Map<String, Object> definition) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(mapper.writeValueAsBytes(definition));
+            return definition.get(ID) + "#" + HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException e) {
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CompiledPresentationDefinition compileDefinition(Map<String, Object> definition) {
+        if (!(definition.get(ID) instanceof String id)) {
+            throw new IllegalArgumentException("'id' is required");
+        }
+        if (!(definition.get("input_descriptors") instanceof List<?> inputDescriptors) || inputDescriptors.isEmpty()) {
+            throw new IllegalArgumentException("'input_descriptors' must be a non-empty array");
+        }
+        var descriptors = new ArrayList<CompiledPresentationDefinition.InputDescriptor>();
+        for (var inputDescriptor : inputDescriptors) {
+            descriptors.add(compileDescriptor(asMap(inputDescriptor, "input descriptor")));
+        }
+        return new CompiledPresentationDefinition(id, List.copyOf(descriptors));
+    }
+
+    private CompiledPresentationDefinition.InputDescriptor compileDescriptor(Map<String, Object> descriptor) {
+        if (!(descriptor.get(ID) instanceof String id)) {
+            throw new IllegalArgumentException("input descriptor 'id' is required");
+        }
+        var fields = new ArrayList<CompiledPresentationDefinition.Field>();
+        if (descriptor.get("constraints") != null) {
+            var constraints = asMap(descriptor.get("constraints"), "constraints");
+            // a single field object is tolerated in place of an array
+            var rawFields = constraints.get("fields") instanceof Map<?, ?> single ? List.of(single) : constraints.get("fields");
+            if (rawFields instanceof List<?> list) {
+                for (var rawField : list) {
+                    fields.add(compileField(asMap(rawField, "field")));
+                }
+            } else if (rawFields != null) {
+                throw new IllegalArgumentException("'fields' must be an array");
+            }
+        }
+        return new CompiledPresentationDefinition.InputDescriptor(id, List.copyOf(fields));
+    }
+
+    private CompiledPresentationDefinition.Field compileField(Map<String, Object> field) {
+        if (!(field.get("path") instanceof List<?> rawPaths) || rawPaths.isEmpty()) {
+            throw new IllegalArgumentException("field 'path' must be a non-empty array");
+        }
+        var paths = rawPaths.stream().map(p -> JsonPath.compile(p.toString())).toList();
+        Predicate<Object> filter = field.get("filter") == null ? value -> true : Filters.compile(asMap(field.get("filter"), "filter"));
+        return new CompiledPresentationDefinition.Field(paths, filter, Boolean.TRUE.equals(field.get("optional")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value, String name) {
+        if (value instanceof Map<?, ?> map) {
+            return (Map<String, Object>) map;
+        }
+        throw new IllegalArgumentException(name + " must be an object");
+    }
+}
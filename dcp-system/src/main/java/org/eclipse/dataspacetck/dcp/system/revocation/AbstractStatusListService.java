@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base functionality for status list services. The status list credential is cached and only rebuilt after a status
+ * changed. Every change increments the version, which identifies the content of the status list credential.
+ */
+public abstract class AbstractStatusListService implements CredentialRevocationService {
+    public static final String REVOCATION = "revocation";
+    protected static final int LENGTH = 16 * 1024; // 16k bits
+
+    protected final String issuerDid;
+    private final BitString bitstring;
+    private final String credentialId;
+    private final String address;
+    private final AtomicLong version = new AtomicLong();
+    private final Object encodeLock = new Object();
+    private volatile Encoded encoded;
+
+    protected AbstractStatusListService(String issuerDid, String address) {
+        this(issuerDid, address, UUID.randomUUID().toString(), BitString.Builder.newInstance().size(LENGTH).build());
+    }
+
+    /**
+     * Creates a status list with the given id, backed by the given bit string.
+     */
+    protected AbstractStatusListService(String issuerDid, String address, String credentialId, BitString bitstring) {
+        this.issuerDid = issuerDid;
+        this.address = address;
+        this.credentialId = credentialId;
+        this.bitstring = bitstring;
+    }
+
+    @Override
+    public void setRevoked(int statusListIndex) {
+        if (statusListIndex >= bitstring.length() || statusListIndex < 0) {
+            throw new IndexOutOfBoundsException("Index out of range: " + statusListIndex);
+        }
+        if (bitstring.set(statusListIndex, true)) {
+            version.incrementAndGet();
+        }
+    }
+
+    @Override
+    public VerifiableCredential createStatusListCredential() {
+        var current = encoded;
+        if (current != null && current.version() == version.get()) {
+            return current.credential();
+        }
+        // concurrent readers of a changed list wait for a single re-encode
+        synchronized (encodeLock) {
+            // read the version before encoding, so a change made during encoding is not attributed to this version
+            var currentVersion = version.get();
+            current = encoded;
+            if (current != null && current.version() == currentVersion) {
+                return current.credential();
+            }
+            var credential = createCredential(credentialId, generateEncodedStatusList());
+            encoded = new Encoded(currentVersion, credential);
+            return credential;
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Returns the number of entries in the status list.
+     */
+    public int size() {
+        return bitstring.length();
+    }
+
+    @Override
+    public String getCredentialId() {
+        return credentialId;
+    }
+
+    @Override
+    public boolean isRevoked(int statusListIndex) {
+        return bitstring.get(statusListIndex);
+    }
+
+    /**
+     * Generates the Base64-encoded, GZIP-compressed bitstring
+     */
+    public String generateEncodedStatusList() {
+        return "u" + BitString.Writer.newInstance().encoder(Base64.getUrlEncoder().withoutPadding()).write(bitstring).getContent();
+    }
+
+    @Override
+    public String getAddress() {
+        return address;
+    }
+
+    /**
+     * Creates the status list credential containing the encoded list.
+     */
+    protected abstract VerifiableCredential createCredential(String credentialId, String encodedList);
+
+    private record Encoded(long version, VerifiableCredential credential) {
+    }
+}
@@ -18,17 +18,33 @@ import org.eclipse.dataspacetck.dcp.system.service.Result;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+/**
+ * A fixed-size bit string backed by 64-bit words. Bit {@code i} is stored in word {@code i / 64} at bit position
+ * {@code i % 64}; the byte order used by status lists is only applied when the bit string is serialized. Words are
+ * updated atomically, so concurrent writers never lose each other's updates. Words are kept on the heap unless a
+ * {@link WordStorage} is configured, in which case every update is flushed to the storage.
+ */
 public class BitString {
+    private static final int BITS_PER_WORD = 64;
+    private static final int BITS_PER_BYTE = 8;
+    private static final int BYTES_PER_WORD = 8;
+    private static final int WRITE_BUFFER_SIZE = 8 * 1024;
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
 
     private final boolean leftToRightIndexing;
-    private final byte[] bits;
-    private final int bitsPerByte = 8;
+    private final WordStorage words;
+    private final int length;
 
-    private BitString(byte[] bits, boolean leftToRightIndexing) {
-        this.bits = bits;
+    private BitString(int length, boolean leftToRightIndexing, WordStorage words) {
+        this.length = length;
+        this.words = words;
         this.leftToRightIndexing = leftToRightIndexing;
     }
 
@@ -42,13 +58,8 @@ public class BitString {
      * @return True if `1`, false otherwise
      */
     public boolean get(int idx) {
-
-        if (idx < 0 || idx >= length()) {
-            throw new IllegalArgumentException("Index out of range 0-%s".formatted(length()));
-        }
-        var byteIdx = idx / bitsPerByte;
-        var shift = bitPosition(idx);
-        return (bits[byteIdx] & (1L << shift)) != 0;
+        checkIndex(idx);
+        return (words.get(idx >>> 6) & (1L << idx)) != 0;
     }
 
     /**
@@ -56,28 +67,225 @@ public class BitString {
      *
      * @param idx    The index to change
      * @param status true or false if it's revoked or not
+     * @return true if the bit changed
+     */
+    public boolean set(int idx, boolean status) {
+        checkIndex(idx);
+        var mask = 1L << idx;
+        var wordIdx = idx >>> 6;
+        var previous = update(wordIdx, mask, status);
+        var changed = ((previous & mask) != 0) != status;
+        if (changed) {
+            words.flush(wordIdx, wordIdx + 1);
+        }
+        return changed;
+    }
+
+    /**
+     * Sets all bits from {@code fromIdx} (inclusive) to {@code toIdx} (exclusive). Each affected word is updated once.
+     */
+    public void setRange(int fromIdx, int toIdx, boolean status) {
+        if (fromIdx < 0 || toIdx > length || fromIdx > toIdx) {
+            throw new IllegalArgumentException("Invalid range %s-%s for length %s".formatted(fromIdx, toIdx, length));
+        }
+        if (fromIdx == toIdx) {
+            return;
+        }
+        var firstWord = fromIdx >>> 6;
+        var lastWord = (toIdx - 1) >>> 6;
+        var firstMask = -1L << fromIdx;
+        var lastMask = -1L >>> -toIdx;
+        if (firstWord == lastWord) {
+            update(firstWord, firstMask & lastMask, status);
+            words.flush(firstWord, firstWord + 1);
+            return;
+        }
+        update(firstWord, firstMask, status);
+        for (var i = firstWord + 1; i < lastWord; i++) {
+            if (status) {
+                words.set(i, -1L);
+            } else {
+                words.set(i, 0L);
+            }
+        }
+        update(lastWord, lastMask, status);
+        words.flush(firstWord, lastWord + 1);
+    }
+
+    /**
+     * Sets all given bits. Indexes falling into the same word are applied with a single update.
+     */
+    public void setAll(int[] indexes, boolean status) {
+        if (indexes.length == 0) {
+            return;
+        }
+        var sorted = indexes.clone();
+        Arrays.sort(sorted);
+        checkIndex(sorted[0]);
+        checkIndex(sorted[sorted.length - 1]);
+        var word = sorted[0] >>> 6;
+        var mask = 0L;
+        for (var idx : sorted) {
+            if (idx >>> 6 != word) {
+                update(word, mask, status);
+                word = idx >>> 6;
+                mask = 0L;
+            }
+            mask |= 1L << idx;
+        }
+        update(word, mask, status);
+        words.flush(sorted[0] >>> 6, word + 1);
+    }
+
+    /**
+     * Returns the number of bits set to `1`.
      */
-    public void set(int idx, boolean status) {
-        if (idx < 0 || idx >= length()) {
-            throw new IllegalArgumentException("Index out of range 0-%s".formatted(length()));
+    public int cardinality() {
+        var count = 0;
+        for (var i = 0; i < words.size(); i++) {
+            count += Long.bitCount(words.get(i));
         }
-        var byteIdx = idx / bitsPerByte;
-        var shift = bitPosition(idx);
+        return count;
+    }
 
-        if (status) {
-            bits[byteIdx] |= (byte) (1L << shift);
-        } else {
-            bits[byteIdx] &= (byte) ~(1L << shift);
+    /**
+     * Returns the index of the first bit set to `1` at or after {@code fromIdx}, or -1 if there is none.
+     */
+    public int nextSetBit(int fromIdx) {
+        if (fromIdx < 0) {
+            throw new IllegalArgumentException("Negative index: " + fromIdx);
+        }
+        if (fromIdx >= length) {
+            return -1;
         }
+        var i = fromIdx >>> 6;
+        var word = words.get(i) & (-1L << fromIdx);
+        while (word == 0) {
+            if (++i == words.size()) {
+                return -1;
+            }
+            word = words.get(i);
+        }
+        return i * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Sets every bit that is `1` in the other bit string.
+     */
+    public void or(BitString other) {
+        checkSameLength(other);
+        for (var i = 0; i < words.size(); i++) {
+            var mask = other.words.get(i);
+            if (mask != 0) {
+                update(i, mask, true);
+            }
+        }
+        words.flush(0, words.size());
+    }
+
+    /**
+     * Clears every bit that is `0` in the other bit string.
+     */
+    public void and(BitString other) {
+        checkSameLength(other);
+        for (var i = 0; i < words.size(); i++) {
+            var mask = ~other.words.get(i);
+            if (mask != 0) {
+                update(i, mask, false);
+            }
+        }
+        words.flush(0, words.size());
     }
 
     public int length() {
-        return bits.length * bitsPerByte;
+        return length;
+    }
+
+    /**
+     * Writes the bit string as bytes in the configured bit order. Words are read one at a time, so bits written
+     * concurrently may or may not be included.
+     */
+    public void writeTo(OutputStream stream) throws IOException {
+        var buffer = new byte[WRITE_BUFFER_SIZE];
+        var position = 0;
+        var byteLength = length / BITS_PER_BYTE;
+        for (var byteIdx = 0; byteIdx < byteLength; byteIdx += BYTES_PER_WORD) {
+            var word = words.get(byteIdx / BYTES_PER_WORD);
+            var count = Math.min(BYTES_PER_WORD, byteLength - byteIdx);
+            for (var j = 0; j < count; j++) {
+                var b = (int) (word >>> (j * BITS_PER_BYTE)) & 0xFF;
+                buffer[position++] = (byte) (leftToRightIndexing ? Integer.reverse(b) >>> 24 : b);
+            }
+            if (position > buffer.length - BYTES_PER_WORD) {
+                stream.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+        stream.write(buffer, 0, position);
+    }
+
+    /**
+     * Returns the bytes of the bit string in the configured bit order.
+     */
+    public byte[] toByteArray() {
+        var stream = new ByteArrayOutputStream(length / BITS_PER_BYTE);
+        try {
+            writeTo(stream);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // not thrown by ByteArrayOutputStream
+        }
+        return stream.toByteArray();
+    }
+
+    /**
+     * Reads up to {@code byteLength} bytes in the configured bit order from the stream, filling the words one at a
+     * time, and returns the number of bytes read.
+     *
+     * @throws IOException if the stream contains more than {@code byteLength} bytes
+     */
+    private int readFrom(InputStream stream, int byteLength) throws IOException {
+        var buffer = new byte[READ_BUFFER_SIZE];
+        var total = 0;
+        var word = 0L;
+        var read = 0;
+        while ((read = stream.read(buffer)) != -1) {
+            if (read > byteLength - total) {
+                throw new IOException("Bit string exceeds the expected %s bytes".formatted(byteLength));
+            }
+            for (var i = 0; i < read; i++) {
+                var b = buffer[i] & 0xFF;
+                var bytePosition = (total + i) % BYTES_PER_WORD;
+                word |= (long) (leftToRightIndexing ? Integer.reverse(b) >>> 24 : b) << (bytePosition * BITS_PER_BYTE);
+                if (bytePosition == BYTES_PER_WORD - 1) {
+                    words.set((total + i) / BYTES_PER_WORD, word);
+                    word = 0L;
+                }
+            }
+            total += read;
+        }
+        if (total % BYTES_PER_WORD != 0) {
+            words.set(total / BYTES_PER_WORD, word);
+        }
+        return total;
+    }
+
+    /**
+     * Atomically sets or clears the masked bits of a word, returning the previous word.
+     */
+    private long update(int wordIdx, long mask, boolean status) {
+        return status ? words.getAndSetBits(wordIdx, mask) : words.getAndClearBits(wordIdx, mask);
+    }
+
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= length) {
+            throw new IllegalArgumentException("Index out of range 0-%s".formatted(length));
+        }
     }
 
-    private int bitPosition(int idx) {
-        var bitIdx = idx % bitsPerByte;
-        return leftToRightIndexing ? (7 - bitIdx) : bitIdx;
+    private void checkSameLength(BitString other) {
+        if (other.length != length) {
+            throw new IllegalArgumentException("Bit string lengths differ: %s and %s".formatted(length, other.length));
+        }
     }
 
     /**
@@ -87,6 +295,7 @@ public class BitString {
 
         private boolean leftToRightIndexing = true;
         private int size = 16 * 1024 * 8;
+        private WordStorage storage;
 
         private Builder() {
         }
@@ -106,12 +315,158 @@ public class BitString {
             return this;
         }
 
+        /**
+         * Sets the storage for the words, which must hold exactly {@code size} bits rounded up to whole words.
+         */
+        public Builder storage(WordStorage storage) {
+            this.storage = storage;
+            return this;
+        }
+
         public BitString build() {
             if (size % 8 != 0) {
                 throw new IllegalArgumentException("BitString size should be multiple of 8");
             }
-            var bits = new byte[size / 8];
-            return new BitString(bits, leftToRightIndexing);
+            var wordCount = (size + BITS_PER_WORD - 1) / BITS_PER_WORD;
+            if (storage == null) {
+                return new BitString(size, leftToRightIndexing, WordStorage.heap(wordCount));
+            }
+            if (storage.size() != wordCount) {
+                throw new IllegalArgumentException("Storage holds %s words, %s required".formatted(storage.size(), wordCount));
+            }
+            return new BitString(size, leftToRightIndexing, storage);
+        }
+    }
+
+    /**
+     * Parser for GZIP-compressed, Base64-encoded bit strings as produced by {@link Writer}. The encoded string is
+     * decoded and decompressed as a stream directly into the words of the bit string: the length is taken from the
+     * GZIP trailer, so the words are allocated once and no intermediate copies of the list are made.
+     */
+    public static final class Parser {
+        public static final int DEFAULT_MAX_LENGTH = 128 * 1024 * 1024; // 16 MB
+        private static final int GZIP_MIN_SIZE = 18; // 10 byte header and 8 byte trailer
+
+        private Base64.Decoder decoder = Base64.getDecoder();
+        private boolean leftToRightIndexing = true;
+        private int maxLength = DEFAULT_MAX_LENGTH;
+
+        private Parser() {
+        }
+
+        public static Parser newInstance() {
+            return new Parser();
+        }
+
+        public Parser decoder(Base64.Decoder decoder) {
+            this.decoder = decoder;
+            return this;
+        }
+
+        public Parser leftToRightIndexing(boolean leftToRightIndexing) {
+            this.leftToRightIndexing = leftToRightIndexing;
+            return this;
+        }
+
+        /**
+         * Sets the maximum length in bits of parsed bit strings, which bounds the memory used for untrusted input.
+         */
+        public Parser maxLength(int maxLength) {
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        /**
+         * Parses the {@code encodedList} of a status list credential. Lists with the multibase prefix {@code u} are
+         * decoded as Base64url without the prefix. A GZIP stream always starts with {@code H4sI} in Base64, so lists
+         * without prefix are decoded as Base64url or, if they contain {@code +} or {@code /}, as Base64. The configured
+         * decoder is not used.
+         */
+        public Result<BitString> parseEncodedList(String encodedList) {
+            if (encodedList.startsWith("u")) {
+                return parse(encodedList, 1, Base64.getUrlDecoder());
+            }
+            var urlEncoded = encodedList.indexOf('+') < 0 && encodedList.indexOf('/') < 0;
+            return parse(encodedList, 0, urlEncoded ? Base64.getUrlDecoder() : Base64.getDecoder());
+        }
+
+        public Result<BitString> parse(String encoded) {
+            return parse(encoded, 0, decoder);
+        }
+
+        private Result<BitString> parse(String encoded, int offset, Base64.Decoder decoder) {
+            try {
+                var byteLength = uncompressedSize(encoded, offset, decoder);
+                if (byteLength > maxLength / BITS_PER_BYTE) {
+                    return Result.failure("Bit string of %s bytes exceeds the maximum length of %s bits".formatted(byteLength, maxLength));
+                }
+                var length = (int) byteLength * BITS_PER_BYTE;
+                var bitString = new BitString(length, leftToRightIndexing, WordStorage.heap((length + BITS_PER_WORD - 1) / BITS_PER_WORD));
+                try (var stream = new GZIPInputStream(decoder.wrap(new StringInputStream(encoded, offset)), READ_BUFFER_SIZE)) {
+                    var read = bitString.readFrom(stream, (int) byteLength);
+                    if (read != byteLength) {
+                        return Result.failure("Bit string has %s bytes, %s expected".formatted(read, byteLength));
+                    }
+                }
+                return Result.success(bitString);
+            } catch (IOException | IllegalArgumentException e) {
+                return Result.failure("Failed to decode the bit string: %s".formatted(e.getMessage()));
+            }
+        }
+
+        /**
+         * Reads the uncompressed size from the GZIP trailer by decoding only the last Base64 characters.
+         */
+        private static long uncompressedSize(String encoded, int offset, Base64.Decoder decoder) {
+            var end = encoded.length();
+            while (end > offset && encoded.charAt(end - 1) == '=') {
+                end--;
+            }
+            var decodedLength = (long) (end - offset) * 3 / 4;
+            if (decodedLength < GZIP_MIN_SIZE) {
+                throw new IllegalArgumentException("Input is too short for GZIP data");
+            }
+            // start at the 4-character group containing the first byte of the trailer's ISIZE field
+            var start = offset + (int) ((decodedLength - 4) / 3) * 4;
+            var tail = decoder.decode(encoded.substring(start, end));
+            var size = 0L;
+            for (var i = 0; i < 4; i++) {
+                size |= (tail[tail.length - 4 + i] & 0xFFL) << (i * BITS_PER_BYTE);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Reads the characters of a Base64 string as bytes without copying it.
+     */
+    private static final class StringInputStream extends InputStream {
+        private final String value;
+        private int position;
+
+        StringInputStream(String value, int offset) {
+            this.value = value;
+            this.position = offset;
+        }
+
+        @Override
+        public int read() {
+            return position < value.length() ? value.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (position >= value.length()) {
+                return -1;
+            }
+            var count = Math.min(length, value.length() - position);
+            for (var i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) value.charAt(position++);
+            }
+            return count;
         }
     }
 
@@ -134,7 +489,7 @@ public class BitString {
         }
 
         public Result<String> write(BitString bitString) {
-            var compressed = compress(bitString.bits);
+            var compressed = compress(bitString);
             if (compressed.failed()) {
                 return Result.failure(compressed.getFailure());
             }
@@ -146,10 +501,10 @@ public class BitString {
 
         }
 
-        private Result<byte[]> compress(byte[] bytes) {
+        private Result<byte[]> compress(BitString bitString) {
             try (var outputStream = new ByteArrayOutputStream()) {
                 try (var zipStream = new GZIPOutputStream(outputStream)) {
-                    zipStream.write(bytes);
+                    bitString.writeTo(zipStream);
                     zipStream.close();
                     return Result.success(outputStream.toByteArray());
                 }
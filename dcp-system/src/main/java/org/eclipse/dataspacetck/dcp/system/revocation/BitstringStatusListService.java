@@ -17,34 +17,21 @@ package org.eclipse.dataspacetck.dcp.system.revocation;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
 
 import java.time.Instant;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
-public class BitstringStatusListService implements CredentialRevocationService {
-    public static final String REVOCATION = "revocation";
-    private static final int LENGTH = 16 * 1024; // 16k bits
-    private final BitString bitstring = BitString.Builder.newInstance().size(LENGTH).build();
-    private final String credentialId = UUID.randomUUID().toString();
-    private final String issuerDid;
-    private final String address;
+public class BitstringStatusListService extends AbstractStatusListService {
 
     public BitstringStatusListService(String issuerDid, String address) {
-        this.issuerDid = issuerDid;
-        this.address = address;
+        super(issuerDid, address);
     }
 
-    @Override
-    public void setRevoked(int statusListIndex) {
-        if (statusListIndex >= LENGTH || statusListIndex < 0) {
-            throw new IndexOutOfBoundsException("Index out of range: " + statusListIndex);
-        }
-        bitstring.set(statusListIndex, true);
+    public BitstringStatusListService(String issuerDid, String address, String credentialId, BitString bitString) {
+        super(issuerDid, address, credentialId, bitString);
     }
 
     @Override
-    public VerifiableCredential createStatusListCredential() {
+    protected VerifiableCredential createCredential(String credentialId, String encodedList) {
         var credential = VerifiableCredential.Builder.newInstance()
                 .id(credentialId)
                 .type(List.of("VerifiableCredential", "BitstringStatusListCredential"))
@@ -55,35 +42,12 @@ public class BitstringStatusListService implements CredentialRevocationService {
                         "id", credentialId,
                         "type", "BitstringStatusList",
                         "statusPurpose", REVOCATION,
-                        "encodedList", generateEncodedStatusList()
+                        "encodedList", encodedList
                 ));
 
         return credential.build();
     }
 
-    @Override
-    public String getCredentialId() {
-        return credentialId;
-    }
-
-    @Override
-    public boolean isRevoked(int statusListIndex) {
-        return bitstring.get(statusListIndex);
-    }
-
-
-    /**
-     * Generates the Base64-encoded, GZIP-compressed bitstring
-     */
-    public String generateEncodedStatusList() {
-        return "u" + BitString.Writer.newInstance().encoder(Base64.getUrlEncoder().withoutPadding()).write(bitstring).getContent();
-    }
-
-    @Override
-    public String getAddress() {
-        return address;
-    }
-
     @Override
     public String getStatusEntryType() {
         return "BitstringStatusListEntry";
@@ -16,20 +16,88 @@ package org.eclipse.dataspacetck.dcp.system.revocation;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspacetck.core.api.system.HandlerResponse;
+import org.eclipse.dataspacetck.core.api.system.ProtocolHandler;
 
 import java.io.InputStream;
-import java.util.function.Function;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
 
-public record CredentialRevocationHandler(CredentialRevocationService revocationService,
-                                          ObjectMapper mapper) implements Function<InputStream, String> {
+/**
+ * Serves the status list credential. The serialized credential is cached per status list version and served with a
+ * strong ETag, so clients can revalidate with {@code If-None-Match} and receive {@code 304 Not Modified}. The ETag is
+ * derived from the serialized credential rather than the version, since versions start over when a persisted list is
+ * reopened.
+ */
+public class CredentialRevocationHandler implements ProtocolHandler {
+    private final CredentialRevocationService revocationService;
+    private final ObjectMapper mapper;
+    private volatile Serialized serialized;
+
+    public CredentialRevocationHandler(CredentialRevocationService revocationService, ObjectMapper mapper) {
+        this.revocationService = revocationService;
+        this.mapper = mapper;
+    }
 
     @Override
-    public String apply(InputStream inputStream) {
-        var cred = revocationService.createStatusListCredential();
+    public HandlerResponse apply(Map<String, List<String>> headers, InputStream body) {
+        var current = current();
+        var responseHeaders = Map.of(
+                "Content-Type", "application/json",
+                "ETag", current.etag(),
+                "Cache-Control", "no-cache");
+        if (matches(headers, current.etag())) {
+            return new HandlerResponse(304, "", responseHeaders);
+        }
+        return new HandlerResponse(200, current.json(), responseHeaders);
+    }
+
+    private Serialized current() {
+        var current = serialized;
+        if (current != null && current.version() == revocationService.getVersion()) {
+            return current;
+        }
+        synchronized (this) {
+            // read the version before serializing, so a change made in the meantime results in a new version
+            var version = revocationService.getVersion();
+            current = serialized;
+            if (current != null && current.version() == version) {
+                return current;
+            }
+            try {
+                var json = mapper.writeValueAsString(revocationService.createStatusListCredential());
+                var etag = "\"%s-%s\"".formatted(revocationService.getCredentialId(), digest(json));
+                current = new Serialized(version, json, etag);
+                serialized = current;
+                return current;
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static String digest(String json) {
         try {
-            return mapper.writeValueAsString(cred);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            var digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
+
+    private boolean matches(Map<String, List<String>> headers, String etag) {
+        return headers.entrySet().stream()
+                .filter(entry -> "If-None-Match".equalsIgnoreCase(entry.getKey()))
+                .flatMap(entry -> entry.getValue().stream())
+                .flatMap(value -> List.of(value.split(",")).stream())
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals(etag) || tag.equals("*"));
+    }
+
+    private record Serialized(long version, String json, String etag) {
+    }
 }
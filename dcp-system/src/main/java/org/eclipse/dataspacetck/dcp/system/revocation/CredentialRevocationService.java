@@ -22,8 +22,31 @@ public interface CredentialRevocationService {
 
     VerifiableCredential createStatusListCredential();
 
+    /**
+     * Returns the version of the status list, which changes whenever a status changes.
+     */
+    long getVersion();
+
     boolean isRevoked(int statusListIndex);
 
+    /**
+     * Sets the entry of the status list with the given credential id to revoked.
+     */
+    default void setRevoked(String credentialId, int statusListIndex) {
+        if (!getCredentialId().equals(credentialId)) {
+            throw new IllegalArgumentException("Unknown status list: " + credentialId);
+        }
+        setRevoked(statusListIndex);
+    }
+
+    /**
+     * Returns true if the entry of the status list with the given credential id is revoked. Entries of unknown status
+     * lists are not revoked.
+     */
+    default boolean isRevoked(String credentialId, int statusListIndex) {
+        return getCredentialId().equals(credentialId) && isRevoked(statusListIndex);
+    }
+
     String getCredentialId();
 
     String getAddress();
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps words in an array on the heap.
+ */
+class HeapWordStorage implements WordStorage {
+    private final AtomicLongArray words;
+
+    HeapWordStorage(int size) {
+        words = new AtomicLongArray(size);
+    }
+
+    @Override
+    public int size() {
+        return words.length();
+    }
+
+    @Override
+    public long get(int wordIdx) {
+        return words.get(wordIdx);
+    }
+
+    @Override
+    public void set(int wordIdx, long word) {
+        words.set(wordIdx, word);
+    }
+
+    @Override
+    public long getAndSetBits(int wordIdx, long mask) {
+        return words.getAndAccumulate(wordIdx, mask, (word, m) -> word | m);
+    }
+
+    @Override
+    public long getAndClearBits(int wordIdx, long mask) {
+        return words.getAndAccumulate(wordIdx, mask, (word, m) -> word & ~m);
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Keeps words in a memory-mapped file, so the bits live in the page cache instead of the heap and survive restarts.
+ * <p>
+ * The file starts with a 24-byte header (magic, format version, length in bits, sequence number, number of allocated
+ * entries, reserved) followed by the words in little-endian order. Files are initialized under a temporary name and
+ * atomically moved in place, so a crash never leaves a partially initialized file. Each word is 8-byte aligned and
+ * updated with a single atomic write, and {@link #flush(int, int)} forces the affected pages to disk. Changes to the
+ * number of allocated entries are forced to disk before they return.
+ * <p>
+ * Access after {@link #close()} is rejected. The mapping is not released explicitly, since a concurrent access to an
+ * unmapped buffer would crash the VM; it is released when the storage is garbage collected.
+ */
+public class MappedWordStorage implements WordStorage, Closeable {
+    public static final String FILE_EXTENSION = ".statuslist";
+    static final int MAGIC = 0x44435053;
+    static final int FORMAT_VERSION = 2;
+    static final int HEADER_SIZE = 24;
+    private static final int ALLOCATED_OFFSET = 16;
+
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int length;
+    private final int sequence;
+    private final int size;
+    private volatile boolean closed;
+
+    private MappedWordStorage(Path file, MappedByteBuffer buffer, int length, int sequence) {
+        this.file = file;
+        this.buffer = buffer;
+        this.length = length;
+        this.sequence = sequence;
+        this.size = wordCount(length);
+    }
+
+    /**
+     * Creates a file for a bit string of the given length with all bits cleared and maps it.
+     *
+     * @param file     the file, which must not exist
+     * @param length   the length of the bit string in bits
+     * @param sequence a sequence number stored in the header, used to order files
+     */
+    public static MappedWordStorage create(Path file, int length, int sequence) throws IOException {
+        if (Files.exists(file)) {
+            throw new FileAlreadyExistsException(file.toString());
+        }
+        var temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temp, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(length)
+                    .putInt(sequence)
+                    .putInt(0)
+                    .putInt(0)
+                    .flip();
+            channel.write(header, 0);
+            // extend the file to its full size, the words are zero-filled
+            channel.write(ByteBuffer.allocate(1), fileSize(length) - 1);
+            channel.force(true);
+        }
+        Files.move(temp, file, ATOMIC_MOVE);
+        syncDirectory(file.toAbsolutePath().getParent());
+        return open(file);
+    }
+
+    /**
+     * Maps an existing file. Only the header is read; the words are paged in on access.
+     */
+    public static MappedWordStorage open(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, READ, WRITE)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a status list file: " + file);
+            }
+            var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a status list file: " + file);
+            }
+            if (buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Unsupported status list file version %s: %s".formatted(buffer.getInt(4), file));
+            }
+            var length = buffer.getInt(8);
+            if (length <= 0 || channel.size() != fileSize(length)) {
+                throw new IOException("Corrupt status list file: " + file);
+            }
+            // the mapping remains valid after the channel is closed
+            return new MappedWordStorage(file, buffer, length, buffer.getInt(12));
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the length of the bit string in bits.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the number of entries handed out from the beginning of the bit string.
+     */
+    public int getAllocated() {
+        checkOpen();
+        return (int) INTS.getVolatile(buffer, ALLOCATED_OFFSET);
+    }
+
+    /**
+     * Records that the first {@code allocated} entries were handed out and forces the header to disk. The stored number
+     * only increases, so concurrent updates may arrive out of order.
+     */
+    public void updateAllocated(int allocated) {
+        var stored = getAllocated();
+        while (stored < allocated) {
+            var witness = (int) INTS.compareAndExchange(buffer, ALLOCATED_OFFSET, stored, allocated);
+            if (witness == stored) {
+                buffer.force(0, HEADER_SIZE);
+                return;
+            }
+            stored = witness;
+        }
+    }
+
+    /**
+     * Sets the number of entries handed out and forces the header to disk. Unlike {@link #updateAllocated(int)}, the
+     * number may decrease, so this is only safe when no entries are handed out concurrently.
+     */
+    public void setAllocated(int allocated) {
+        checkOpen();
+        INTS.setVolatile(buffer, ALLOCATED_OFFSET, allocated);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long get(int wordIdx) {
+        return (long) WORDS.getVolatile(buffer, offset(wordIdx));
+    }
+
+    @Override
+    public void set(int wordIdx, long word) {
+        WORDS.setVolatile(buffer, offset(wordIdx), word);
+    }
+
+    @Override
+    public long getAndSetBits(int wordIdx, long mask) {
+        return (long) WORDS.getAndBitwiseOr(buffer, offset(wordIdx), mask);
+    }
+
+    @Override
+    public long getAndClearBits(int wordIdx, long mask) {
+        return (long) WORDS.getAndBitwiseAnd(buffer, offset(wordIdx), ~mask);
+    }
+
+    @Override
+    public void flush(int fromIdx, int toIdx) {
+        if (fromIdx < toIdx) {
+            buffer.force(offset(fromIdx), (toIdx - fromIdx) * Long.BYTES);
+        }
+    }
+
+    /**
+     * Forces the file to disk. Further access is rejected.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.force();
+    }
+
+    private int offset(int wordIdx) {
+        checkOpen();
+        if (wordIdx < 0 || wordIdx >= size) {
+            throw new IndexOutOfBoundsException("Word index out of range: " + wordIdx);
+        }
+        return HEADER_SIZE + wordIdx * Long.BYTES;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Status list file is closed: " + file);
+        }
+    }
+
+    private static int wordCount(int length) {
+        return (length + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private static long fileSize(int length) {
+        return HEADER_SIZE + (long) wordCount(length) * Long.BYTES;
+    }
+
+    private static void syncDirectory(Path directory) {
+        // makes the rename durable; not supported on all platforms
+        try (var channel = FileChannel.open(directory, READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Manages multiple status lists of a fixed size and allocates entries for newly issued credentials. Indexes are handed
+ * out from the current list with a lock-free counter; when the list is full, a new list is created and becomes the
+ * current one. An allocated entry is pending until it is either marked as issued or released; released entries are
+ * reused before new ones are allocated.
+ * <p>
+ * If a directory is configured, each list is kept in a memory-mapped file (see {@link MappedWordStorage}) and the
+ * lists found in the directory are reopened on startup. The number of entries handed out from each list is stored in
+ * its file, so allocation continues after the last entry handed out by a previous run, from the most recent list that
+ * still has free entries. Entries are reserved in chunks of {@value #RESERVATION_CHUNK}, and a chunk is forced to disk
+ * before its first entry is handed out, so a crash never hands out an entry twice; it may skip the rest of a chunk.
+ * Closing the service records the exact number. Pending and released entries are not persisted and are not handed out
+ * again after a restart. The service is meant to be created once per process and closed on shutdown; it rejects calls
+ * afterwards.
+ * <p>
+ * Methods inherited from {@link CredentialRevocationService} that do not take a status list id operate on the list that
+ * was current when the service was created.
+ */
+public class ShardedRevocationService implements CredentialRevocationService, Closeable {
+    static final int RESERVATION_CHUNK = 256;
+
+    private final StatusListFactory factory;
+    private final int listSize;
+    private final Path directory;
+    private final List<Consumer<AbstractStatusListService>> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Shard> shards = new ConcurrentHashMap<>();
+    private final Queue<StatusListAllocation> released = new ConcurrentLinkedQueue<>();
+    private final Set<StatusListAllocation> pending = ConcurrentHashMap.newKeySet();
+    private final Object rolloverLock = new Object();
+    private final Shard first;
+    private volatile Shard current;
+    private int sequence;
+    private volatile boolean closed;
+
+    private ShardedRevocationService(StatusListFactory factory, int listSize, Path directory) {
+        this.factory = factory;
+        this.listSize = listSize;
+        this.directory = directory;
+        var reopened = directory == null ? List.<Shard>of() : reopenShards();
+        // continue with the most recent list that has free entries; lists opened for a single entry are marked as full
+        this.current = reopened.stream()
+                .filter(shard -> shard.next().get() < shard.list().size())
+                .reduce((previous, next) -> next)
+                .orElseGet(this::createShard);
+        this.first = current;
+    }
+
+    /**
+     * Allocates a status list entry for a new credential.
+     */
+    public StatusListAllocation allocate() {
+        checkOpen();
+        var allocation = nextAllocation();
+        pending.add(allocation);
+        return allocation;
+    }
+
+    /**
+     * Allocates the only entry of a new list, which is not used for other credentials, also not after a restart. The
+     * list is not current, so no credential issued before refers to it and no client can have cached it. An entry that
+     * is revoked before its credential is presented is therefore revoked for every client.
+     */
+    public StatusListAllocation allocateInNewList() {
+        checkOpen();
+        Shard shard;
+        synchronized (rolloverLock) {
+            shard = createShard();
+        }
+        shard.reserveAll();
+        var allocation = new StatusListAllocation(shard.url(), shard.list().getCredentialId(), 0);
+        pending.add(allocation);
+        return allocation;
+    }
+
+    /**
+     * Marks a pending entry as used by an issued credential. The entry can no longer be released.
+     */
+    public void markIssued(StatusListAllocation allocation) {
+        checkOpen();
+        if (!pending.remove(allocation)) {
+            throw new IllegalArgumentException("Status list entry is not pending: " + allocation);
+        }
+    }
+
+    /**
+     * Returns a pending entry that was not used in an issued credential, so it can be allocated again. Entries of issued
+     * credentials and entries that were already released are rejected, since their status would be shared by two
+     * credentials.
+     */
+    public void release(StatusListAllocation allocation) {
+        checkOpen();
+        if (!shards.containsKey(allocation.credentialId())) {
+            throw new IllegalArgumentException("Unknown status list: " + allocation.credentialId());
+        }
+        if (!pending.remove(allocation)) {
+            throw new IllegalArgumentException("Status list entry is not pending: " + allocation);
+        }
+        released.add(allocation);
+    }
+
+    /**
+     * Registers a listener that is notified when a status list is created, including the lists created before the
+     * listener was registered.
+     */
+    public void onStatusListCreated(Consumer<AbstractStatusListService> listener) {
+        synchronized (rolloverLock) {
+            listeners.add(listener);
+            shards.values().forEach(shard -> listener.accept(shard.list()));
+        }
+    }
+
+    /**
+     * Returns the status list with the given credential id or null if it does not exist.
+     */
+    public CredentialRevocationService getStatusList(String credentialId) {
+        var shard = shards.get(credentialId);
+        return shard == null ? null : shard.list();
+    }
+
+    public Collection<CredentialRevocationService> getStatusLists() {
+        return shards.values().stream().map(shard -> (CredentialRevocationService) shard.list()).toList();
+    }
+
+    @Override
+    public void setRevoked(String credentialId, int statusListIndex) {
+        checkOpen();
+        var shard = shards.get(credentialId);
+        if (shard == null) {
+            throw new IllegalArgumentException("Unknown status list: " + credentialId);
+        }
+        shard.list().setRevoked(statusListIndex);
+    }
+
+    @Override
+    public boolean isRevoked(String credentialId, int statusListIndex) {
+        checkOpen();
+        var shard = shards.get(credentialId);
+        return shard != null && shard.list().isRevoked(statusListIndex);
+    }
+
+    @Override
+    public void setRevoked(int statusListIndex) {
+        checkOpen();
+        first.list().setRevoked(statusListIndex);
+    }
+
+    @Override
+    public VerifiableCredential createStatusListCredential() {
+        checkOpen();
+        return first.list().createStatusListCredential();
+    }
+
+    @Override
+    public long getVersion() {
+        return first.list().getVersion();
+    }
+
+    @Override
+    public boolean isRevoked(int statusListIndex) {
+        checkOpen();
+        return first.list().isRevoked(statusListIndex);
+    }
+
+    @Override
+    public String getCredentialId() {
+        return first.list().getCredentialId();
+    }
+
+    @Override
+    public String getAddress() {
+        return first.list().getAddress();
+    }
+
+    @Override
+    public String getStatusEntryType() {
+        return first.list().getStatusEntryType();
+    }
+
+    /**
+     * Forces persisted lists to disk and unmaps them. The service must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        synchronized (rolloverLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            shards.values().stream()
+                    .filter(shard -> shard.storage() != null)
+                    .forEach(Shard::close);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Revocation service is closed");
+        }
+    }
+
+    private StatusListAllocation nextAllocation() {
+        var reused = released.poll();
+        if (reused != null) {
+            return reused;
+        }
+        while (true) {
+            var shard = current;
+            var index = shard.tryAllocate();
+            if (index >= 0) {
+                return new StatusListAllocation(shard.url(), shard.list().getCredentialId(), index);
+            }
+            rollover(shard);
+        }
+    }
+
+    private void rollover(Shard full) {
+        // only taken when a list is full, allocation from the current list does not lock
+        synchronized (rolloverLock) {
+            if (current == full) {
+                current = createShard();
+            }
+        }
+    }
+
+    private Shard createShard() {
+        var credentialId = UUID.randomUUID().toString();
+        var bitString = BitString.Builder.newInstance().size(listSize);
+        MappedWordStorage storage = null;
+        if (directory != null) {
+            try {
+                storage = MappedWordStorage.create(directory.resolve(credentialId + MappedWordStorage.FILE_EXTENSION), listSize, sequence++);
+                bitString.storage(storage);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        var shard = register(factory.create(credentialId, bitString.build()), storage, 0);
+        listeners.forEach(listener -> listener.accept(shard.list()));
+        return shard;
+    }
+
+    private List<Shard> reopenShards() {
+        var storages = new ArrayList<MappedWordStorage>();
+        try (var files = Files.list(directory)) {
+            for (var file : files.filter(f -> f.getFileName().toString().endsWith(MappedWordStorage.FILE_EXTENSION)).toList()) {
+                storages.add(MappedWordStorage.open(file));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        storages.sort(Comparator.comparingInt(MappedWordStorage::getSequence));
+        var reopened = new ArrayList<Shard>();
+        for (var storage : storages) {
+            var fileName = storage.getFile().getFileName().toString();
+            var credentialId = fileName.substring(0, fileName.length() - MappedWordStorage.FILE_EXTENSION.length());
+            var bitString = BitString.Builder.newInstance().size(storage.getLength()).storage(storage).build();
+            // entries handed out by a previous run may have been issued, so they are not allocated again
+            reopened.add(register(factory.create(credentialId, bitString), storage, Math.min(storage.getAllocated(), bitString.length())));
+            sequence = storage.getSequence() + 1;
+        }
+        return reopened;
+    }
+
+    private Shard register(AbstractStatusListService list, @Nullable MappedWordStorage storage, int allocated) {
+        var url = "%s/statuslist/%s".formatted(list.getAddress(), list.getCredentialId());
+        var shard = new Shard(list, url, storage, new AtomicInteger(allocated), new AtomicInteger(allocated));
+        shards.put(list.getCredentialId(), shard);
+        return shard;
+    }
+
+    /**
+     * Creates a status list with the given credential id, backed by the given bit string.
+     */
+    @FunctionalInterface
+    public interface StatusListFactory {
+        AbstractStatusListService create(String credentialId, BitString bitString);
+    }
+
+    private record Shard(AbstractStatusListService list, String url, @Nullable MappedWordStorage storage, AtomicInteger next,
+                         AtomicInteger reserved) {
+
+        /**
+         * Returns the next free index or -1 if the list is full.
+         */
+        int tryAllocate() {
+            var size = list.size();
+            var index = next.getAndUpdate(i -> i < size ? i + 1 : i);
+            if (index >= size) {
+                return -1;
+            }
+            if (storage != null && index >= reserved.get()) {
+                reserve(Math.min(size, index + RESERVATION_CHUNK));
+            }
+            return index;
+        }
+
+        /**
+         * Marks all entries as handed out.
+         */
+        void reserveAll() {
+            next.set(list.size());
+            if (storage != null) {
+                reserve(list.size());
+            }
+        }
+
+        /**
+         * Records the number of entries actually handed out and closes the storage.
+         */
+        void close() {
+            storage.setAllocated(next.get());
+            storage.close();
+        }
+
+        private synchronized void reserve(int count) {
+            if (count > reserved.get()) {
+                // forced to disk before any entry of the chunk is handed out
+                storage.updateAllocated(count);
+                reserved.set(count);
+            }
+        }
+    }
+
+    public static final class Builder {
+        private StatusListFactory factory;
+        private int listSize = AbstractStatusListService.LENGTH;
+        private Path directory;
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder factory(StatusListFactory factory) {
+            this.factory = factory;
+            return this;
+        }
+
+        public Builder listSize(int listSize) {
+            this.listSize = listSize;
+            return this;
+        }
+
+        /**
+         * Sets the directory status lists are persisted in. Lists are kept on the heap if no directory is set.
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public ShardedRevocationService build() {
+            requireNonNull(factory, "factory");
+            if (listSize <= 0 || listSize % 8 != 0) {
+                throw new IllegalArgumentException("Status list size must be a positive multiple of 8");
+            }
+            if (directory != null && !Files.isDirectory(directory)) {
+                throw new IllegalArgumentException("Not a directory: " + directory);
+            }
+            return new ShardedRevocationService(factory, listSize, directory);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import org.eclipse.dataspacetck.dcp.system.model.vc.MetadataReference;
+
+/**
+ * An entry allocated in a status list for a newly issued credential.
+ *
+ * @param statusListCredential the URL of the status list credential
+ * @param credentialId         the id of the status list credential
+ * @param statusListIndex      the index of the entry in the status list
+ */
+public record StatusListAllocation(String statusListCredential, String credentialId, int statusListIndex) {
+
+    /**
+     * Returns the {@code credentialStatus} entry referencing this allocation.
+     *
+     * @param statusEntryType the entry type of the status list, e.g. {@code BitstringStatusListEntry}
+     */
+    public MetadataReference toCredentialStatus(String statusEntryType) {
+        return MetadataReference.Builder.newInstance()
+                .id(statusListCredential + "#" + statusListIndex)
+                .type(statusEntryType)
+                .setExtensibleProperty("statusPurpose", AbstractStatusListService.REVOCATION)
+                .setExtensibleProperty("statusListIndex", String.valueOf(statusListIndex))
+                .setExtensibleProperty("statusListCredential", statusListCredential)
+                .build();
+    }
+}
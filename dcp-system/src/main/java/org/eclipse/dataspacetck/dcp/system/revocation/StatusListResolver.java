@@ -0,0 +1,279 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Request;
+import org.eclipse.dataspacetck.dcp.system.cs.TokenValidationService;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
+
+/**
+ * Resolves status list credentials over HTTP and checks credential status entries against them. A status list
+ * credential is verified and decoded once and the decoded list is cached per URL, so a status check is a bit test on
+ * cached data. After the TTL has passed, the list is revalidated with a conditional request and the decoded list is
+ * kept if the server reports it as not modified. Concurrent resolutions of the same URL share a single request.
+ * <p>
+ * Status list credentials secured as JWTs are verified with the configured token validation service. Credentials
+ * returned as plain JSON are accepted without a proof.
+ */
+public class StatusListResolver {
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final Set<String> STATUS_LIST_TYPES = Set.of("BitstringStatusListCredential", "StatusList2021Credential");
+
+    private final Map<String, CachedList> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Result<CachedList>>> inflight = new ConcurrentHashMap<>();
+    private ObjectMapper mapper = new ObjectMapper();
+    private TokenValidationService tokenValidationService;
+    private Duration ttl = DEFAULT_TTL;
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private Clock clock = Clock.systemUTC();
+
+    private StatusListResolver() {
+    }
+
+    /**
+     * Checks a credential status entry, i.e. the properties of the {@code credentialStatus} object of a credential.
+     *
+     * @return true if the credential is revoked or suspended, a failure if the status cannot be determined
+     */
+    public Result<Boolean> isRevoked(Map<String, Object> credentialStatus) {
+        var statusListCredential = credentialStatus.get("statusListCredential");
+        if (statusListCredential == null) {
+            return failure("Credential status does not contain a statusListCredential");
+        }
+        var statusListIndex = credentialStatus.get("statusListIndex");
+        if (statusListIndex == null) {
+            return failure("Credential status does not contain a statusListIndex");
+        }
+        try {
+            var purpose = credentialStatus.get("statusPurpose");
+            return isRevoked(statusListCredential.toString(), Integer.parseInt(statusListIndex.toString()), purpose == null ? null : purpose.toString());
+        } catch (NumberFormatException e) {
+            return failure("Invalid statusListIndex: " + statusListIndex);
+        }
+    }
+
+    /**
+     * Checks the entry of the status list credential at the given URL.
+     *
+     * @param statusListCredential the URL of the status list credential
+     * @param statusListIndex      the index of the entry
+     * @param statusPurpose        the expected status purpose or null if it is not checked
+     */
+    public Result<Boolean> isRevoked(String statusListCredential, int statusListIndex, String statusPurpose) {
+        var result = resolveList(statusListCredential);
+        if (result.failed()) {
+            return failure(result.getFailure());
+        }
+        var list = result.getContent();
+        if (statusPurpose != null && list.purpose() != null && !statusPurpose.equals(list.purpose())) {
+            return failure("Status purpose '%s' does not match the status list purpose '%s'".formatted(statusPurpose, list.purpose()));
+        }
+        if (statusListIndex < 0 || statusListIndex >= list.bits().length()) {
+            return failure("Status list index %s out of range 0-%s".formatted(statusListIndex, list.bits().length()));
+        }
+        return success(list.bits().get(statusListIndex));
+    }
+
+    /**
+     * Returns the decoded status list at the given URL.
+     */
+    public Result<BitString> resolve(String statusListCredential) {
+        var result = resolveList(statusListCredential);
+        return result.succeeded() ? success(result.getContent().bits()) : failure(result.getFailure());
+    }
+
+    private Result<CachedList> resolveList(String url) {
+        var cached = cache.get(url);
+        if (cached != null && clock.instant().isBefore(cached.expiresAt())) {
+            return success(cached);
+        }
+        return fetch(url, cached);
+    }
+
+    /**
+     * Fetches the status list, joining a fetch for the same URL that is already in flight.
+     */
+    private Result<CachedList> fetch(String url, CachedList stale) {
+        var promise = new CompletableFuture<Result<CachedList>>();
+        var existing = inflight.putIfAbsent(url, promise);
+        if (existing != null) {
+            return existing.join();
+        }
+        Result<CachedList> result;
+        try {
+            result = request(url, stale);
+        } catch (RuntimeException e) {
+            result = failure("Failed to resolve status list %s: %s".formatted(url, e.getMessage()));
+        }
+        if (result.succeeded()) {
+            if (!cache.containsKey(url) && cache.size() >= maxSize) {
+                cache.keySet().stream().findAny().ifPresent(cache::remove);
+            }
+            cache.put(url, result.getContent());
+        }
+        inflight.remove(url, promise);
+        promise.complete(result);
+        return result;
+    }
+
+    private Result<CachedList> request(String url, CachedList stale) {
+        var builder = new Request.Builder().url(url).get();
+        if (stale != null && stale.etag() != null) {
+            builder.header("If-None-Match", stale.etag());
+        }
+        try (var response = HttpClients.shared().newCall(builder.build()).execute()) {
+            var expiresAt = clock.instant().plus(ttl);
+            if (response.code() == 304 && stale != null) {
+                return success(new CachedList(stale.bits(), stale.purpose(), stale.etag(), expiresAt));
+            }
+            if (!response.isSuccessful()) {
+                return failure("Failed to fetch status list %s: HTTP %s".formatted(url, response.code()));
+            }
+            var credential = parseCredential(response.body().string());
+            if (credential.failed()) {
+                return failure(credential.getFailure());
+            }
+            return decode(credential.getContent(), response.header("ETag"), expiresAt);
+        } catch (IOException e) {
+            return failure("Failed to fetch status list %s: %s".formatted(url, e.getMessage()));
+        }
+    }
+
+    /**
+     * Parses the status list credential, verifying it if it is secured as a JWT.
+     */
+    private Result<Map<String, Object>> parseCredential(String body) throws IOException {
+        if (body.stripLeading().startsWith("{")) {
+            return success(mapper.readValue(body, new TypeReference<>() {
+            }));
+        }
+        if (tokenValidationService == null) {
+            return failure("Status list credential is a JWT, but no token validation service is configured");
+        }
+        var jwt = tokenValidationService.validateToken(body.strip());
+        if (jwt.failed()) {
+            return failure("Invalid status list credential: " + jwt.getFailure());
+        }
+        try {
+            var claims = jwt.getContent().getJWTClaimsSet();
+            var vc = claims.getJSONObjectClaim("vc");
+            return success(vc != null ? vc : claims.toJSONObject());
+        } catch (ParseException e) {
+            return failure("Invalid status list credential: " + e.getMessage());
+        }
+    }
+
+    private Result<CachedList> decode(Map<String, Object> credential, String etag, Instant expiresAt) {
+        if (!isStatusListCredential(credential.get("type"))) {
+            return failure("Not a status list credential: " + credential.get("type"));
+        }
+        var validUntil = Objects.requireNonNullElse(credential.get("validUntil"), credential.get("expirationDate"));
+        try {
+            if (validUntil != null && Instant.parse(validUntil.toString()).isBefore(clock.instant())) {
+                return failure("Status list credential has expired");
+            }
+        } catch (DateTimeParseException e) {
+            return failure("Invalid status list credential expiration: " + validUntil);
+        }
+        if (!(credential.get("credentialSubject") instanceof Map<?, ?> subject)) {
+            return failure("Status list credential has no credentialSubject");
+        }
+        if (!(subject.get("encodedList") instanceof String encodedList)) {
+            return failure("Status list credential has no encodedList");
+        }
+        var bits = BitString.Parser.newInstance().parseEncodedList(encodedList);
+        if (bits.failed()) {
+            return failure(bits.getFailure());
+        }
+        var purpose = subject.get("statusPurpose");
+        return success(new CachedList(bits.getContent(), purpose == null ? null : purpose.toString(), etag, expiresAt));
+    }
+
+    private static boolean isStatusListCredential(Object type) {
+        if (type instanceof Collection<?> types) {
+            return types.stream().anyMatch(STATUS_LIST_TYPES::contains);
+        }
+        return type != null && STATUS_LIST_TYPES.contains(type.toString());
+    }
+
+    private record CachedList(BitString bits, String purpose, String etag, Instant expiresAt) {
+    }
+
+    public static class Builder {
+        private final StatusListResolver resolver;
+
+        private Builder() {
+            resolver = new StatusListResolver();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder mapper(ObjectMapper mapper) {
+            resolver.mapper = mapper;
+            return this;
+        }
+
+        /**
+         * Sets the service verifying status list credentials secured as JWTs.
+         */
+        public Builder tokenValidationService(TokenValidationService tokenValidationService) {
+            resolver.tokenValidationService = tokenValidationService;
+            return this;
+        }
+
+        public Builder ttl(Duration ttl) {
+            resolver.ttl = ttl;
+            return this;
+        }
+
+        public Builder maxSize(int maxSize) {
+            resolver.maxSize = maxSize;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            resolver.clock = clock;
+            return this;
+        }
+
+        public StatusListResolver build() {
+            return resolver;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+/**
+ * Storage for the 64-bit words of a {@link BitString}. Implementations must update words atomically.
+ */
+public interface WordStorage {
+
+    /**
+     * Returns storage for the given number of words on the heap.
+     */
+    static WordStorage heap(int size) {
+        return new HeapWordStorage(size);
+    }
+
+    /**
+     * Returns the number of words.
+     */
+    int size();
+
+    long get(int wordIdx);
+
+    void set(int wordIdx, long word);
+
+    /**
+     * Atomically sets the bits of the mask, returning the previous word.
+     */
+    long getAndSetBits(int wordIdx, long mask);
+
+    /**
+     * Atomically clears the bits of the mask, returning the previous word.
+     */
+    long getAndClearBits(int wordIdx, long mask);
+
+    /**
+     * Makes the words from {@code fromIdx} (inclusive) to {@code toIdx} (exclusive) durable. Storage that is not
+     * persistent does nothing.
+     */
+    default void flush(int fromIdx, int toIdx) {
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.sts;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jwt.SignedJWT;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.FormBody;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
+
+/**
+ * Requests access tokens from a remote ("real") STS using the client credentials grant. By default, every call fetches a
+ * new token, since systems under test may accept a token only once. If caching is enabled, tokens are cached per
+ * audience and scope set until they expire. Within the refresh margin before expiry, the cached token is still returned
+ * while a new one is fetched in the background. Concurrent requests for the same audience and scopes share a single
+ * fetch.
+ */
+public class RemoteStsClient {
+    public static final Duration DEFAULT_REFRESH_MARGIN = Duration.ofSeconds(30);
+
+    private final Map<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<TokenKey, CompletableFuture<Result<CachedToken>>> inflight = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private String stsUrl;
+    private String clientId;
+    private String clientSecret;
+    private Duration refreshMargin = DEFAULT_REFRESH_MARGIN;
+    private boolean cacheEnabled;
+    private Clock clock = Clock.systemUTC();
+
+    private RemoteStsClient() {
+    }
+
+    /**
+     * Obtains an access token, i.e. the "inner" token returned from the STS.
+     *
+     * @param audience the desired 'aud' claim of the token
+     * @param scopes   the requested scopes
+     */
+    public CompletableFuture<Result<String>> obtainToken(String audience, List<String> scopes) {
+        var key = new TokenKey(audience, Set.copyOf(scopes));
+        if (!cacheEnabled) {
+            return request(key).thenApply(RemoteStsClient::toToken);
+        }
+        var cached = tokens.get(key);
+        var now = clock.instant();
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            if (!now.isBefore(cached.expiresAt().minus(refreshMargin))) {
+                fetch(key); // refresh ahead, the cached token can still be used in the meantime
+            }
+            return completedFuture(success(cached.token()));
+        }
+        return fetch(key).thenApply(RemoteStsClient::toToken);
+    }
+
+    /**
+     * Fetches a token, joining a fetch for the same key that is already in flight.
+     */
+    private CompletableFuture<Result<CachedToken>> fetch(TokenKey key) {
+        var promise = new CompletableFuture<Result<CachedToken>>();
+        var existing = inflight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return existing;
+        }
+        request(key).whenComplete((result, error) -> {
+            if (result != null && result.succeeded()) {
+                tokens.put(key, result.getContent());
+            }
+            inflight.remove(key, promise);
+            promise.complete(error != null ? failure("Error requesting token: " + error.getMessage()) : result);
+        });
+        return promise;
+    }
+
+    private CompletableFuture<Result<CachedToken>> request(TokenKey key) {
+        var rq = new Request.Builder()
+                .url(stsUrl + "/token")
+                .addHeader("Content-Type", "application/x-www-form-urlencoded")
+                .post(new FormBody.Builder()
+                        .add("grant_type", "client_credentials")
+                        .add("client_id", clientId)
+                        .add("client_secret", clientSecret)
+                        .add("audience", key.audience())
+                        .add("bearer_access_scope", String.join(" ", key.scopes()))
+                        .build())
+                .build();
+
+        var future = new CompletableFuture<Result<CachedToken>>();
+        HttpClients.shared().newCall(rq).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.complete(failure("Error requesting token: " + e.getMessage()));
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (response) {
+                    future.complete(parseResponse(response));
+                } catch (RuntimeException e) {
+                    future.complete(failure("Error requesting token: " + e.getMessage()));
+                }
+            }
+        });
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<CachedToken> parseResponse(Response response) {
+        if (!response.isSuccessful()) {
+            return failure("Request failed with HTTP code " + response.code());
+        }
+        try {
+            var body = objectMapper.readValue(response.body().string(), Map.class);
+            var accessToken = SignedJWT.parse(body.get("access_token").toString());
+            var tokenClaim = accessToken.getJWTClaimsSet().getClaim("token").toString();
+
+            // the token is valid until the first of the outer token, the inner token or the response expires
+            var expiresIn = body.get("expires_in") instanceof Number n ? clock.instant().plusSeconds(n.longValue()) : null;
+            var expiresAt = Stream.of(toInstant(accessToken.getJWTClaimsSet().getExpirationTime()), innerExpiration(tokenClaim), expiresIn)
+                    .filter(Objects::nonNull)
+                    .min(Instant::compareTo)
+                    .orElse(Instant.MIN); // no expiration, do not reuse
+            return success(new CachedToken(tokenClaim, expiresAt));
+        } catch (IOException e) {
+            return failure("Error requesting token: " + e.getMessage());
+        } catch (ParseException e) {
+            return failure("Failed to parse token: " + e.getMessage());
+        }
+    }
+
+    private Instant innerExpiration(String token) {
+        try {
+            return toInstant(SignedJWT.parse(token).getJWTClaimsSet().getExpirationTime());
+        } catch (ParseException e) {
+            return null; // the inner token is opaque
+        }
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
+    private static Result<String> toToken(Result<CachedToken> result) {
+        return result.succeeded() ? success(result.getContent().token()) : failure(result.getFailure());
+    }
+
+    private record TokenKey(String audience, Set<String> scopes) {
+    }
+
+    private record CachedToken(String token, Instant expiresAt) {
+    }
+
+    public static class Builder {
+        private final RemoteStsClient client;
+
+        private Builder() {
+            client = new RemoteStsClient();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder stsUrl(String stsUrl) {
+            client.stsUrl = stsUrl;
+            return this;
+        }
+
+        public Builder clientId(String clientId) {
+            client.clientId = clientId;
+            return this;
+        }
+
+        public Builder clientSecret(String clientSecret) {
+            client.clientSecret = clientSecret;
+            return this;
+        }
+
+        public Builder refreshMargin(Duration refreshMargin) {
+            client.refreshMargin = refreshMargin;
+            return this;
+        }
+
+        public Builder cacheEnabled(boolean cacheEnabled) {
+            client.cacheEnabled = cacheEnabled;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            client.clock = clock;
+            return this;
+        }
+
+        public RemoteStsClient build() {
+            Objects.requireNonNull(client.stsUrl, "stsUrl");
+            Objects.requireNonNull(client.clientId, "clientId");
+            Objects.requireNonNull(client.clientSecret, "clientSecret");
+            return client;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Obtains an authz token from the holder's STS.
@@ -32,5 +33,15 @@ public interface StsClient {
      */
     Result<String> obtainReadToken(String bearerDid, List<String> scopes);
 
+    /**
+     * Obtains the token asynchronously, so that callers can overlap token acquisition with other work.
+     *
+     * @param bearerDid the bearer's DID to bind the token
+     * @param scopes    requested scope
+     */
+    default CompletableFuture<Result<String>> obtainReadTokenAsync(String bearerDid, List<String> scopes) {
+        return CompletableFuture.completedFuture(obtainReadToken(bearerDid, scopes));
+    }
+
     Result<String> obtainWriteToken(String bearerDid, String audience, KeyService keyService);
 }
@@ -16,10 +16,10 @@ package org.eclipse.dataspacetck.dcp.system.verifier;
 
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.dataspacetck.dcp.system.crypto.VerifierCache;
 import org.eclipse.dataspacetck.dcp.system.cs.TokenValidationService;
 import org.eclipse.dataspacetck.dcp.system.did.DidClient;
 import org.eclipse.dataspacetck.dcp.system.model.did.VerificationMethod;
@@ -28,21 +28,38 @@ import org.jetbrains.annotations.NotNull;
 
 import java.text.ParseException;
 import java.util.Date;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
-import static org.eclipse.dataspacetck.dcp.system.crypto.Keys.createVerifier;
 import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
 import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.TOKEN_VERIFICATION;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.time;
 
 /**
  * This is a token validation service, specifically designed to validate JWT-VCs as it ignores the aud, iss and sub claims
  */
 public class BaseTokenValidationService implements TokenValidationService {
-    private final Map<String, String> usedJts = new ConcurrentHashMap<>();
+    private final ReplayStore replayStore;
+    private final DidClient didClient;
+
+    public BaseTokenValidationService() {
+        this(ExpiringReplayStore.Builder.newInstance().build());
+    }
+
+    public BaseTokenValidationService(ReplayStore replayStore) {
+        this(replayStore, new DidClient(false));
+    }
+
+    public BaseTokenValidationService(ReplayStore replayStore, DidClient didClient) {
+        this.replayStore = replayStore;
+        this.didClient = didClient;
+    }
 
     @Override
     public Result<JWT> validateToken(String credentialToken) {
+        return time(TOKEN_VERIFICATION, () -> validate(credentialToken));
+    }
+
+    private Result<JWT> validate(String credentialToken) {
         try {
             var jwt = SignedJWT.parse(credentialToken);
 
@@ -69,11 +86,6 @@ public class BaseTokenValidationService implements TokenValidationService {
             return failure("JTI not specified");
         }
 
-        if (usedJts.containsKey(jti)) {
-            return failure("JTI already used");
-        }
-        usedJts.put(jti, jti);
-
         if (claims.getExpirationTime() == null) {
             return failure("Expiration not specified");
         }
@@ -82,6 +94,11 @@ public class BaseTokenValidationService implements TokenValidationService {
             return failure("Token has expired");
         }
 
+        var replayResult = replayStore.register(jti, claims.getExpirationTime().toInstant());
+        if (replayResult.failed()) {
+            return failure(replayResult.getFailure());
+        }
+
         if (claims.getIssueTime() == null) {
             return failure("IAT not specified");
         }
@@ -98,8 +115,7 @@ public class BaseTokenValidationService implements TokenValidationService {
             return failure("Invalid kid: " + kid);
         }
         var issuerDid = parts[0];
-        var client = new DidClient(false);
-        var didDocument = client.resolveDocument(issuerDid);
+        var didDocument = didClient.resolveDocument(issuerDid);
 
         VerificationMethod method;
         if (parts.length == 1) {
@@ -121,8 +137,19 @@ public class BaseTokenValidationService implements TokenValidationService {
 
     @NotNull
     protected Result<JWT> verifySignature(SignedJWT jwt, VerificationMethod method) throws ParseException, JOSEException {
-        var key = JWK.parse(method.getPublicKeyJwk());
-        var result = jwt.verify(createVerifier(key));
+        var verifier = VerifierCache.shared().getVerifier(keyId(jwt.getHeader().getKeyID(), method), method.getPublicKeyJwk());
+        var result = jwt.verify(verifier);
         return result ? success(jwt) : failure("JWT verification failed");
     }
+
+    /**
+     * Returns the full key ID (DID and fragment) of the verification method.
+     */
+    private String keyId(String kid, VerificationMethod method) {
+        if (kid.contains("#")) {
+            return kid;
+        }
+        var id = method.getId();
+        return id.startsWith("#") ? kid + id : id;
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.verifier;
+
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.eclipse.dataspacetck.dcp.system.service.Result.failure;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.success;
+
+/**
+ * A replay store that forgets JTIs once their token has expired. JTIs are grouped in buckets by expiration time, so that
+ * expired JTIs are dropped a whole bucket at a time. The number of stored JTIs is capped; when the cap is reached, the
+ * {@link OverflowPolicy} decides whether new tokens are rejected or the JTIs closest to expiry are dropped early.
+ */
+public class ExpiringReplayStore implements ReplayStore {
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofSeconds(1);
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final long resolution;
+    private final int maxEntries;
+    private final OverflowPolicy overflowPolicy;
+    private final Clock clock;
+    private volatile long lastSweep = Long.MIN_VALUE;
+
+    private ExpiringReplayStore(long resolution, int maxEntries, OverflowPolicy overflowPolicy, Clock clock) {
+        this.resolution = resolution;
+        this.maxEntries = maxEntries;
+        this.overflowPolicy = overflowPolicy;
+        this.clock = clock;
+    }
+
+    @Override
+    public Result<Void> register(String jti, Instant expiration) {
+        var now = clock.millis();
+        sweep(now);
+
+        if (entries.containsKey(jti)) {
+            return failure("JTI already used");
+        }
+        var expiresAt = expiration.toEpochMilli();
+        if (expiresAt <= now) {
+            // expired tokens are rejected by the caller anyway, no need to remember them
+            return success();
+        }
+
+        if (size.incrementAndGet() > maxEntries && !makeRoom()) {
+            size.decrementAndGet();
+            return failure("Replay store capacity of %s JTIs exceeded".formatted(maxEntries));
+        }
+        if (entries.putIfAbsent(jti, expiresAt) != null) {
+            size.decrementAndGet();
+            return failure("JTI already used");
+        }
+        // the bucket holds all JTIs that expire at or before its end
+        var slot = Math.floorDiv(expiresAt + resolution - 1, resolution);
+        addToBucket(slot, jti);
+        return success();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Drops all buckets whose end lies in the past. Only runs once per elapsed bucket, so the cost is amortized over all
+     * registrations within the same bucket.
+     */
+    private void sweep(long now) {
+        var current = Math.floorDiv(now, resolution);
+        if (current <= lastSweep) {
+            return;
+        }
+        lastSweep = current;
+        var expired = buckets.headMap(current, true);
+        Map.Entry<Long, Set<String>> bucket;
+        while ((bucket = expired.pollFirstEntry()) != null) {
+            drop(bucket.getValue());
+        }
+    }
+
+    /**
+     * Frees at least one entry according to the overflow policy.
+     */
+    private boolean makeRoom() {
+        if (overflowPolicy == OverflowPolicy.REJECT) {
+            return false;
+        }
+        while (size.get() > maxEntries) {
+            var bucket = buckets.pollFirstEntry();
+            if (bucket == null) {
+                return false;
+            }
+            drop(bucket.getValue());
+        }
+        return true;
+    }
+
+    /**
+     * Adds the JTI to the bucket of the slot. A sweep or eviction that removes the bucket at the same time may miss the
+     * JTI while dropping the bucket, which would leave it stored for good. The JTI is therefore added again for as long
+     * as it is still stored and the bucket it was added to is no longer mapped.
+     */
+    private void addToBucket(long slot, String jti) {
+        while (entries.containsKey(jti)) {
+            var bucket = buckets.computeIfAbsent(slot, s -> ConcurrentHashMap.newKeySet());
+            bucket.add(jti);
+            if (buckets.get(slot) == bucket) {
+                return;
+            }
+        }
+    }
+
+    private void drop(Set<String> jtis) {
+        for (var jti : jtis) {
+            if (entries.remove(jti) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Determines the behavior when the store is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Rejects new tokens until stored JTIs expire. Replay protection is never weakened.
+         */
+        REJECT,
+        /**
+         * Drops the JTIs closest to expiry to make room for new tokens.
+         */
+        EVICT_EARLIEST
+    }
+
+    public static class Builder {
+        private Duration resolution = DEFAULT_RESOLUTION;
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder resolution(Duration resolution) {
+            this.resolution = resolution;
+            return this;
+        }
+
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ExpiringReplayStore build() {
+            if (resolution.toMillis() < 1) {
+                throw new IllegalArgumentException("Resolution must be at least one millisecond");
+            }
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("Max entries must be positive: " + maxEntries);
+            }
+            return new ExpiringReplayStore(resolution.toMillis(), maxEntries, overflowPolicy, clock);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.verifier;
+
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+
+import java.time.Instant;
+
+/**
+ * Records token IDs (JTIs) to detect replayed tokens.
+ */
+public interface ReplayStore {
+
+    /**
+     * Records the JTI until the token expires. Fails if the JTI was already recorded or cannot be stored.
+     *
+     * @param jti        the token ID
+     * @param expiration the token expiration, after which the JTI may be forgotten
+     */
+    Result<Void> register(String jti, Instant expiration);
+
+}
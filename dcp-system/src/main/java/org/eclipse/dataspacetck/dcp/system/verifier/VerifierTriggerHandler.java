@@ -27,11 +27,12 @@ import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.eclipse.dataspacetck.dcp.system.cs.TokenValidationService;
 import org.eclipse.dataspacetck.dcp.system.did.DidClient;
 import org.eclipse.dataspacetck.dcp.system.handler.AbstractProtocolHandler;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
 import org.eclipse.dataspacetck.dcp.system.message.DcpConstants;
 import org.eclipse.dataspacetck.dcp.system.message.DcpMessageBuilder;
 import org.eclipse.dataspacetck.dcp.system.model.vc.MetadataReference;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
-import org.eclipse.dataspacetck.dcp.system.revocation.CredentialRevocationService;
+import org.eclipse.dataspacetck.dcp.system.revocation.StatusListResolver;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
 import org.jetbrains.annotations.NotNull;
 
@@ -68,19 +69,19 @@ public class VerifierTriggerHandler extends AbstractProtocolHandler {
     private final KeyService keyService;
     private final String verifierDid;
     private final TokenValidationService credentialValidationService;
-    private final CredentialRevocationService credentialRevocationService;
+    private final StatusListResolver statusListResolver;
 
     public VerifierTriggerHandler(TokenValidationService tokenService, ObjectMapper objectMapper,
                                   KeyService keyService, String verifierDid,
-                                  TokenValidationService credentialValidationService, CredentialRevocationService credentialRevocationService) {
+                                  TokenValidationService credentialValidationService, StatusListResolver statusListResolver) {
         super("/credential-schemas/membership-credential-schema.json");
         this.tokenService = tokenService;
         this.objectMapper = objectMapper;
         this.keyService = keyService;
         this.verifierDid = verifierDid;
         this.credentialValidationService = credentialValidationService;
-        this.credentialRevocationService = credentialRevocationService;
-        this.httpClient = new OkHttpClient();
+        this.statusListResolver = statusListResolver;
+        this.httpClient = HttpClients.shared();
     }
 
     @Override
@@ -204,12 +205,13 @@ public class VerifierTriggerHandler extends AbstractProtocolHandler {
 
             // validate schema
 
-            // check revocation - this is a shortcut, bypassing credential resolution through HTTP
+            // check revocation against the status list credential
             if (vc.getCredentialStatus() != null) {
-                var index = vc.getCredentialStatus().getExtensibleProperties().get("statusListIndex");
-                var ix = Integer.parseInt(index.toString());
-                var status = credentialRevocationService.isRevoked(ix);
-                if (status) {
+                var status = statusListResolver.isRevoked(vc.getCredentialStatus().getExtensibleProperties());
+                if (status.failed()) {
+                    return Result.failure("Credential status could not be checked: " + status.getFailure());
+                }
+                if (status.getContent()) {
                     return Result.failure("Credential is revoked");
                 }
             }
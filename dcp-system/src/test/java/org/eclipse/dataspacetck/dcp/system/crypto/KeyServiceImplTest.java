@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.crypto;
+
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dcp.system.crypto.Keys.createVerifier;
+import static org.eclipse.dataspacetck.dcp.system.crypto.Keys.generateEcKey;
+
+class KeyServiceImplTest {
+    private final ECKey key = generateEcKey();
+    private final KeyServiceImpl keyService = new KeyServiceImpl(key);
+
+    @Test
+    void verifySign() throws Exception {
+        var token = keyService.sign(emptyMap(), claims("did:web:issuer", "1"));
+
+        var jwt = SignedJWT.parse(token);
+        assertThat(jwt.verify(createVerifier(key.toPublicJWK()))).isTrue();
+        assertThat(jwt.getHeader().getKeyID()).isEqualTo("did:web:issuer#" + key.getKeyID());
+    }
+
+    @Test
+    void verifySignAll() throws Exception {
+        var tokens = keyService.signAll(List.of(claims("did:web:issuer1", "1"), claims("did:web:issuer2", "2")));
+
+        assertThat(tokens).hasSize(2);
+        var first = SignedJWT.parse(tokens.get(0));
+        var second = SignedJWT.parse(tokens.get(1));
+        assertThat(first.verify(createVerifier(key.toPublicJWK()))).isTrue();
+        assertThat(second.verify(createVerifier(key.toPublicJWK()))).isTrue();
+        assertThat(first.getJWTClaimsSet().getJWTID()).isEqualTo("1");
+        assertThat(first.getHeader().getKeyID()).isEqualTo("did:web:issuer1#" + key.getKeyID());
+        assertThat(second.getHeader().getKeyID()).isEqualTo("did:web:issuer2#" + key.getKeyID());
+    }
+
+    @Test
+    void verifySignAllWithKeyId() throws Exception {
+        var tokens = keyService.signAll(Map.of("kid", "did:web:issuer#key1"), List.of(claims("did:web:issuer", "1"), claims("did:web:issuer", "2")));
+
+        for (var token : tokens) {
+            assertThat(SignedJWT.parse(token).getHeader().getKeyID()).isEqualTo("did:web:issuer#key1");
+        }
+    }
+
+    private JWTClaimsSet claims(String issuer, String jti) {
+        return new JWTClaimsSet.Builder().issuer(issuer).jwtID(jti).build();
+    }
+}
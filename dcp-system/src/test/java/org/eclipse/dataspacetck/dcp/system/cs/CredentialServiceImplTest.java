@@ -37,10 +37,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.dataspacetck.dcp.system.cs.CredentialServiceImpl.DEFAULT_SCOPE_PATTERN;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.PRESENTATION;
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.PRESENTATION_DEFINITION;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.SCOPE;
 import static org.eclipse.dataspacetck.dcp.system.model.vc.CredentialFormat.VC1_0_JWT;
 import static org.eclipse.dataspacetck.dcp.system.profile.TestProfile.MEMBERSHIP_CREDENTIAL_TYPE;
 import static org.eclipse.dataspacetck.dcp.system.profile.TestProfile.MEMBERSHIP_SCOPE;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.ErrorType.BAD_REQUEST;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.ErrorType.NOT_FOUND;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -120,6 +123,34 @@ class CredentialServiceImplTest {
         assertThat(result.getFailure()).isEqualTo("Invalid scope type: " + MEMBERSHIP_SCOPE);
     }
 
+    @Test
+    void presentationQuery_whenPresentationDefinition() throws ParseException {
+        var service = createService(DEFAULT_SCOPE_PATTERN);
+        seedMembershipCredential(service);
+
+        var matching = presentationDefinition(Map.of("type", "string", "pattern", "gold"));
+        var result = service.presentationQueryMessage(VERIFIER_DID, "token", Map.of(PRESENTATION_DEFINITION, matching));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(presentedCredentials(result)).hasSize(1);
+
+        var notMatching = presentationDefinition(Map.of("type", "string", "const", "silver"));
+        result = service.presentationQueryMessage(VERIFIER_DID, "token", Map.of(PRESENTATION_DEFINITION, notMatching));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getErrorType()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    void presentationQuery_whenPresentationDefinitionInvalid() {
+        var service = createService(DEFAULT_SCOPE_PATTERN);
+
+        var result = service.presentationQueryMessage(VERIFIER_DID, "token", Map.of(PRESENTATION_DEFINITION, Map.of("id", "pd")));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getErrorType()).isEqualTo(BAD_REQUEST);
+    }
+
     @Test
     void createService_whenPatternHasNoTypeGroup() {
         assertThatThrownBy(() -> createService(Pattern.compile("my.scope:(.*):(.*)")))
@@ -155,6 +186,15 @@ class CredentialServiceImplTest {
         assertThat(service.writeCredentials("token", message).succeeded()).isTrue();
     }
 
+    private Map<String, Object> presentationDefinition(Map<String, Object> memberLevelFilter) {
+        var descriptor = Map.of(
+                "id", "membership",
+                "constraints", Map.of("fields", List.of(
+                        Map.of("path", List.of("$.type"), "filter", Map.of("type", "string", "const", MEMBERSHIP_CREDENTIAL_TYPE)),
+                        Map.of("path", List.of("$.credentialSubject.memberLevel"), "filter", memberLevelFilter))));
+        return Map.of("id", randomUUID().toString(), "input_descriptors", List.of(descriptor));
+    }
+
     @SuppressWarnings("unchecked")
     private List<Object> presentedCredentials(Result<Map<String, Object>> result) throws ParseException {
         var presentations = (List<String>) result.getContent().get(PRESENTATION);
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.cs;
+
+import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
+import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dcp.system.model.vc.CredentialFormat.VC1_0_JWT;
+
+class InMemoryCredentialStoreTest {
+    private final InMemoryCredentialStore store = new InMemoryCredentialStore();
+
+    @Test
+    void verifyIndexes() {
+        var membership = credential("MembershipCredential", "did:web:issuer1", "did:web:holder", "2030-01-01T00:00:00Z");
+        var sensitive = credential("SensitiveDataCredential", "did:web:issuer2", "did:web:holder", "2025-01-01T00:00:00Z");
+        var other = credential("MembershipCredential", "did:web:issuer2", "did:web:other", null);
+
+        store.add(List.of(membership, sensitive));
+        store.add(List.of(other));
+
+        assertThat(store.getAll()).containsExactly(membership, sensitive, other);
+        assertThat(store.findByType("MembershipCredential")).containsExactly(membership, other);
+        assertThat(store.findByType("Unknown")).isEmpty();
+        assertThat(store.findByIssuer("did:web:issuer2")).containsExactly(sensitive, other);
+        assertThat(store.findBySubject("did:web:holder")).containsExactly(membership, sensitive);
+        assertThat(store.findExpiringBefore(Instant.parse("2026-01-01T00:00:00Z"))).containsExactly(sensitive);
+    }
+
+    @Test
+    void verifySnapshotNotAffectedByWrites() {
+        var first = credential("MembershipCredential", "did:web:issuer", "did:web:holder", null);
+        store.add(List.of(first));
+        var snapshot = store.getAll();
+        var byType = store.findByType("MembershipCredential");
+
+        store.add(List.of(credential("MembershipCredential", "did:web:issuer", "did:web:holder", null)));
+
+        assertThat(snapshot).containsExactly(first);
+        assertThat(byType).containsExactly(first);
+        assertThat(store.getAll()).hasSize(2);
+    }
+
+    @Test
+    void verifyConcurrentWrites() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 1000).forEach(i -> executor.execute(() ->
+                store.add(List.of(credential("Type" + (i % 10), "did:web:issuer", "did:web:holder", null)))));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(store.getAll()).hasSize(1000);
+        assertThat(store.findByType("Type1")).hasSize(100);
+        assertThat(store.findByIssuer("did:web:issuer")).hasSize(1000);
+    }
+
+    private VcContainer credential(String type, String issuer, String subjectId, String expirationDate) {
+        var credential = VerifiableCredential.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .type(List.of("VerifiableCredential", type))
+                .issuer(issuer)
+                .issuanceDate("2024-01-01T00:00:00Z")
+                .expirationDate(expirationDate)
+                .credentialSubject(Map.of("id", subjectId))
+                .build();
+        return new VcContainer(type, "raw", credential, VC1_0_JWT);
+    }
+}
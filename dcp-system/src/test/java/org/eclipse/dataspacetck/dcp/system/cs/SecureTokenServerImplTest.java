@@ -19,11 +19,14 @@ import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
 import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dcp.system.cs.CredentialServiceImpl.DEFAULT_SCOPE_PATTERN;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.SCOPE_TYPE_ALIAS;
 import static org.eclipse.dataspacetck.dcp.system.profile.TestProfile.OPERATION_READ;
 import static org.mockito.ArgumentMatchers.any;
@@ -75,6 +78,41 @@ class SecureTokenServerImplTest {
                 .hasMessage("Invalid scope: invalid-scope");
     }
 
+    @Test
+    void validateReadToken_whenBoundToOtherDid() {
+        var token = server.obtainReadToken(DID, List.of(SCOPE_1));
+
+        var result = server.validateReadToken("did:web:other", token.getContent());
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure()).isEqualTo("Token binding not valid");
+    }
+
+    @Test
+    void validateReadToken_whenExpired() {
+        Clock clock = mock();
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+        var server = new SecureTokenServerImpl(mock(), DEFAULT_SCOPE_PATTERN, clock);
+        var token = server.obtainReadToken(DID, List.of(SCOPE_1));
+
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(0).plus(SecureTokenServerImpl.DEFAULT_READ_TOKEN_TTL));
+
+        assertThat(server.validateReadToken(DID, token.getContent()).getFailure()).isEqualTo("Token has expired");
+    }
+
+    @Test
+    void obtainReadToken_removesExpiredTokens() {
+        Clock clock = mock();
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(0));
+        var server = new SecureTokenServerImpl(mock(), DEFAULT_SCOPE_PATTERN, clock);
+        var unused = server.obtainReadToken(DID, List.of(SCOPE_1));
+
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(0).plus(SecureTokenServerImpl.DEFAULT_READ_TOKEN_TTL));
+        server.obtainReadToken(DID, List.of(SCOPE_2));
+
+        assertThat(server.validateReadToken(DID, unused.getContent()).getFailure()).isEqualTo("Token not valid");
+    }
+
     @Test
     void readTokenIsInvalid() {
         var result = server.validateReadToken(DID, "invalid");
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryEventBusTest {
+    private final InMemoryEventBus eventBus = new InMemoryEventBus();
+
+    @Test
+    void verifySubscribe() {
+        var received = new ArrayList<CredentialsStored>();
+        var subscription = eventBus.subscribe(CredentialsStored.class, received::add);
+
+        eventBus.publish(stored("holder-1"));
+        eventBus.publish(new CredentialRequestStatusChanged("issuer-1", "holder-1", "ISSUED"));
+        subscription.close();
+        eventBus.publish(stored("holder-2"));
+
+        assertThat(received).containsExactly(stored("holder-1"));
+        assertThat(eventBus.subscriptions()).isZero();
+    }
+
+    @Test
+    void verifyNext() {
+        var next = eventBus.next(CredentialsStored.class, event -> event.holderPid().equals("holder-2"));
+
+        eventBus.publish(stored("holder-1"));
+        assertThat(next).isNotDone();
+
+        eventBus.publish(stored("holder-2"));
+        assertThat(next).isCompletedWithValue(stored("holder-2"));
+        assertThat(eventBus.subscriptions()).isZero();
+    }
+
+    @Test
+    void verifyNextTimesOut() {
+        var next = eventBus.next(CredentialsStored.class, event -> true).orTimeout(10, TimeUnit.MILLISECONDS);
+
+        assertThat(next).failsWithin(Duration.ofSeconds(5));
+        assertThat(eventBus.subscriptions()).isZero();
+    }
+
+    @Test
+    void verifyFailingSubscriberIsolated() {
+        var received = new ArrayList<CredentialsStored>();
+        eventBus.subscribe(CredentialsStored.class, event -> {
+            throw new IllegalStateException("subscriber failed");
+        });
+        eventBus.subscribe(CredentialsStored.class, received::add);
+
+        eventBus.publish(stored("holder-1"));
+
+        assertThat(received).hasSize(1);
+    }
+
+    private CredentialsStored stored(String holderPid) {
+        return new CredentialsStored(holderPid, "issuer", List.of("MembershipCredential"));
+    }
+}
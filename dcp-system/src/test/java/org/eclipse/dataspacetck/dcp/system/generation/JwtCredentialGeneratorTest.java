@@ -19,10 +19,13 @@ import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.dataspacetck.dcp.system.crypto.KeyServiceImpl;
 import org.eclipse.dataspacetck.dcp.system.crypto.Keys;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+import org.eclipse.dataspacetck.dcp.system.revocation.BitstringStatusListService;
+import org.eclipse.dataspacetck.dcp.system.revocation.ShardedRevocationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.text.ParseException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +34,13 @@ import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.dataspacetck.dcp.system.crypto.Keys.createVerifier;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class JwtCredentialGeneratorTest {
     private static final String ISSUER_DID = "did:web:localhost%3A8083:issuer";
@@ -64,6 +74,73 @@ class JwtCredentialGeneratorTest {
         assertThat(parsed.verify(verifier)).isTrue();
     }
 
+    @Test
+    void verifyGeneration_assignsDistinctStatusEntries() throws ParseException {
+        var revocationService = ShardedRevocationService.Builder.newInstance()
+                .factory((credentialId, bitString) -> new BitstringStatusListService(ISSUER_DID, "http://localhost:8083", credentialId, bitString))
+                .listSize(16)
+                .build();
+        var revocationGenerator = new JwtCredentialGenerator(ISSUER_DID, keyService, revocationService);
+
+        var entries = new HashSet<String>();
+        for (var i = 0; i < 20; i++) {
+            var status = credentialStatus(revocationGenerator.generateCredential(createCredential()).getContent());
+            assertThat(status).containsEntry("type", "BitstringStatusListEntry").containsEntry("statusPurpose", "revocation");
+            entries.add(status.get("statusListCredential") + "#" + status.get("statusListIndex"));
+        }
+
+        assertThat(entries).hasSize(20);
+        assertThat(revocationService.getStatusLists()).hasSize(2);
+    }
+
+    @Test
+    void verifyBatchGeneration_signedInOneCall() throws ParseException, JOSEException {
+        var batchKeyService = spy(keyService);
+        var batchGenerator = new JwtCredentialGenerator(ISSUER_DID, batchKeyService);
+
+        var jwts = batchGenerator.generateCredentials(List.of(createCredential(), createCredential(), createCredential())).getContent();
+
+        assertThat(jwts).hasSize(3).doesNotHaveDuplicates();
+        var verifier = createVerifier(keyService.getPublicKey().toECKey().toECPublicKey());
+        for (var jwt : jwts) {
+            assertThat(SignedJWT.parse(jwt).verify(verifier)).isTrue();
+        }
+        verify(batchKeyService, times(1)).signAll(anyMap(), anyList());
+        verify(batchKeyService, never()).sign(anyMap(), any());
+    }
+
+    @Test
+    void verifyBatchGeneration_failure_releasesStatusEntries() throws ParseException {
+        var revocationService = ShardedRevocationService.Builder.newInstance()
+                .factory((credentialId, bitString) -> new BitstringStatusListService(ISSUER_DID, "http://localhost:8083", credentialId, bitString))
+                .listSize(16)
+                .build();
+        var revocationGenerator = new JwtCredentialGenerator(ISSUER_DID, keyService, revocationService);
+        var invalid = VerifiableCredential.Builder.newInstance()
+                .credentialSubject(Map.of("memberLevel", "gold"))
+                .id(randomUUID().toString())
+                .issuanceDate(now().toString())
+                .expirationDate(now().plusSeconds(600).toString())
+                .issuer(ISSUER_DID)
+                .type(List.of("VerifiableCredential"))
+                .context(List.of("https://www.w3.org/2018/credentials/v1"))
+                .build();
+
+        assertThatThrownBy(() -> revocationGenerator.generateCredentials(List.of(createCredential(), invalid)))
+                .hasMessageContaining("credentialSubject must contain an 'id' property");
+
+        // the entry allocated for the first credential was handed back
+        var status = credentialStatus(revocationGenerator.generateCredential(createCredential()).getContent());
+        assertThat(String.valueOf(status.get("statusListIndex"))).isEqualTo("0");
+    }
+
+    @Test
+    void verifyGeneration_noRevocationService_noStatusEntry() throws ParseException {
+        var jwt = generator.generateCredential(createCredential()).getContent();
+
+        assertThat(credentialStatus(jwt)).isNull();
+    }
+
     @Test
     void verifyGeneration_noSubjectId_throwsException() {
         var credential = VerifiableCredential.Builder.newInstance()
@@ -81,6 +158,24 @@ class JwtCredentialGeneratorTest {
                 .hasMessageContaining("credentialSubject must contain an 'id' property");
     }
 
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> credentialStatus(String jwt) throws ParseException {
+        var vc = (Map<String, Object>) SignedJWT.parse(jwt).getJWTClaimsSet().getClaim("vc");
+        return (Map<String, Object>) vc.get("credentialStatus");
+    }
+
+    private VerifiableCredential createCredential() {
+        return VerifiableCredential.Builder.newInstance()
+                .credentialSubject(Map.of("id", SUBJECT_DID, "memberLevel", "gold"))
+                .id(randomUUID().toString())
+                .issuanceDate(now().toString())
+                .expirationDate(now().plusSeconds(600).toString())
+                .issuer(ISSUER_DID)
+                .type(List.of("VerifiableCredential"))
+                .context(List.of("https://www.w3.org/2018/credentials/v1"))
+                .build();
+    }
+
     @BeforeEach
     void setUp() {
         keyService = new KeyServiceImpl(Keys.generateEcKey());
@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.issuer;
+
+import org.eclipse.dataspacetck.dcp.system.cs.CredentialMessage;
+import org.eclipse.dataspacetck.dcp.system.service.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class CredentialDeliveryPipelineTest {
+    private static final String HOLDER = "did:web:holder";
+    private static final String ISSUER = "did:web:issuer";
+
+    private final CredentialDeliveryService deliveryService = CredentialDeliveryService.Builder.newInstance().workers(2).build();
+    private final List<CredentialMessage> sent = new CopyOnWriteArrayList<>();
+    private final Map<String, Boolean> outcomes = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        deliveryService.shutdown(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void verifyCoalescing() {
+        var pipeline = pipeline((holder, issuer, message) -> sent.add(message), 3);
+
+        assertThat(pipeline.submit(HOLDER, ISSUER, message("holder-1", "issuer-1")).succeeded()).isTrue();
+        assertThat(pipeline.submit(HOLDER, ISSUER, message("holder-1", "issuer-2")).succeeded()).isTrue();
+        assertThat(pipeline.submit(HOLDER, ISSUER, message("holder-2", "issuer-3")).succeeded()).isTrue();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> outcomes.size() == 3);
+        assertThat(outcomes).containsOnly(Map.entry("issuer-1", true), Map.entry("issuer-2", true), Map.entry("issuer-3", true));
+        // messages of different issuer processes are not merged
+        assertThat(sent).extracting(CredentialMessage::getIssuerPid).containsExactly("issuer-1", "issuer-2", "issuer-3");
+        assertThat(sent).allSatisfy(message -> assertThat(message.getCredentials()).hasSize(1));
+    }
+
+    @Test
+    void verifyRetry() {
+        var calls = new AtomicInteger();
+        var pipeline = pipeline((holder, issuer, message) -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new HolderResponseException(503);
+            }
+        }, 3);
+
+        pipeline.submit(HOLDER, ISSUER, message("holder-1", "issuer-1"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> outcomes.containsKey("issuer-1"));
+        assertThat(outcomes.get("issuer-1")).isTrue();
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void verifyRejectedAfterRetries() {
+        var calls = new AtomicInteger();
+        var pipeline = pipeline((holder, issuer, message) -> {
+            calls.incrementAndGet();
+            throw new IOException("Connection refused");
+        }, 2);
+
+        pipeline.submit(HOLDER, ISSUER, message("holder-1", "issuer-1"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> outcomes.containsKey("issuer-1"));
+        assertThat(outcomes.get("issuer-1")).isFalse();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 408, 429 })
+    void verifyRetry_transientClientError(int code) {
+        var calls = new AtomicInteger();
+        var pipeline = pipeline((holder, issuer, message) -> {
+            if (calls.incrementAndGet() < 2) {
+                throw new HolderResponseException(code);
+            }
+        }, 3);
+
+        pipeline.submit(HOLDER, ISSUER, message("holder-1", "issuer-1"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> outcomes.containsKey("issuer-1"));
+        assertThat(outcomes.get("issuer-1")).isTrue();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 400, 401, 404 })
+    void verifyRejectedWithoutRetry_clientError(int code) {
+        var calls = new AtomicInteger();
+        var pipeline = pipeline((holder, issuer, message) -> {
+            calls.incrementAndGet();
+            throw new HolderResponseException(code);
+        }, 3);
+
+        pipeline.submit(HOLDER, ISSUER, message("holder-1", "issuer-1"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> outcomes.containsKey("issuer-1"));
+        assertThat(outcomes.get("issuer-1")).isFalse();
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(pipeline.getBreakerState(HOLDER)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void verifyCircuitBreakerOpens() {
+        var calls = new AtomicInteger();
+        var pipeline = CredentialDeliveryPipeline.Builder.newInstance()
+                .deliveryService(deliveryService)
+                .sender((holder, issuer, message) -> {
+                    calls.incrementAndGet();
+                    throw new IOException("Connection refused");
+                })
+                .listener(this::record)
+                .retryPolicy(new RetryPolicy(1, Duration.ofMillis(10), Duration.ofMillis(20), 0.5))
+                .coalesceWindow(Duration.ofMillis(100))
+                .failureThreshold(1)
+                .openDuration(Duration.ofMinutes(1))
+                .build();
+
+        // both messages are flushed together, the second one finds the breaker open
+        pipeline.submit(HOLDER, ISSUER, message("holder-1", "issuer-1"));
+        pipeline.submit(HOLDER, ISSUER, message("holder-2", "issuer-2"));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> outcomes.size() == 2);
+        assertThat(outcomes).containsOnly(Map.entry("issuer-1", false), Map.entry("issuer-2", false));
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(pipeline.getBreakerState(HOLDER)).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private CredentialDeliveryPipeline pipeline(CredentialDeliveryPipeline.Sender sender, int attempts) {
+        return CredentialDeliveryPipeline.Builder.newInstance()
+                .deliveryService(deliveryService)
+                .sender(sender)
+                .listener(this::record)
+                .retryPolicy(new RetryPolicy(attempts, Duration.ofMillis(10), Duration.ofMillis(20), 0.5))
+                .coalesceWindow(Duration.ofMillis(100))
+                .build();
+    }
+
+    private void record(String issuerPid, Result<Void> outcome) {
+        outcomes.put(issuerPid, outcome.succeeded());
+    }
+
+    private CredentialMessage message(String holderPid, String issuerPid) {
+        return CredentialMessage.Builder.newInstance()
+                .holderPid(holderPid)
+                .issuerPid(issuerPid)
+                .status("ISSUED")
+                .credentials(List.of(new CredentialMessage.CredentialContainer("MembershipCredential", "payload", "vc11-sl2021/jwt")))
+                .build();
+    }
+}
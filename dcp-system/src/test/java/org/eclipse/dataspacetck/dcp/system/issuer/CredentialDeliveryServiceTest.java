@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.issuer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CredentialDeliveryServiceTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CredentialDeliveryService service = CredentialDeliveryService.Builder.newInstance()
+            .workers(2)
+            .capacity(2)
+            .offerTimeout(Duration.ofMillis(50))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.shutdown(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void verifyDelivery() {
+        var delivered = new AtomicInteger();
+
+        var result = service.schedule(delivered::incrementAndGet, Duration.ofMillis(10));
+
+        assertThat(result.succeeded()).isTrue();
+        result.getContent().join();
+        assertThat(delivered.get()).isEqualTo(1);
+        assertThat(service.pending()).isEqualTo(0);
+    }
+
+    @Test
+    void verifyFailureReported() {
+        var result = service.schedule(() -> {
+            throw new IllegalStateException("holder unavailable");
+        }, Duration.ZERO);
+
+        assertThatThrownBy(() -> result.getContent().join())
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("holder unavailable");
+    }
+
+    @Test
+    void verifyBackpressure() {
+        assertThat(service.schedule(this::awaitRelease, Duration.ZERO).succeeded()).isTrue();
+        assertThat(service.schedule(this::awaitRelease, Duration.ZERO).succeeded()).isTrue();
+
+        var rejected = service.schedule(this::awaitRelease, Duration.ZERO);
+
+        assertThat(rejected.failed()).isTrue();
+        assertThat(service.pending()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyShutdownDrainsPendingDeliveries() {
+        var delivered = new AtomicInteger();
+        service.schedule(delivered::incrementAndGet, Duration.ofMillis(200));
+        service.schedule(delivered::incrementAndGet, Duration.ZERO);
+
+        assertThat(service.shutdown(Duration.ofSeconds(5))).isTrue();
+
+        assertThat(delivered.get()).isEqualTo(2);
+        assertThat(service.schedule(delivered::incrementAndGet, Duration.ZERO).failed()).isTrue();
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.system.issuer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dcp.system.issuer.CredentialRequestRegistry.State.ISSUED;
+import static org.eclipse.dataspacetck.dcp.system.issuer.CredentialRequestRegistry.State.RECEIVED;
+import static org.eclipse.dataspacetck.dcp.system.issuer.CredentialRequestRegistry.State.REJECTED;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CredentialRequestRegistryTest {
+    private final Clock clock = mock();
+    private final CredentialRequestRegistry registry = CredentialRequestRegistry.Builder.newInstance()
+            .clock(clock)
+            .retention(Duration.ofSeconds(10))
+            .maxEntries(3)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+    }
+
+    @Test
+    void verifyTransitions() {
+        assertThat(registry.register("issuer-1", request("holder-1")).succeeded()).isTrue();
+        assertThat(registry.register("issuer-1", request("holder-1")).failed()).isTrue();
+        assertThat(registry.get("issuer-1")).hasValueSatisfying(entry -> assertThat(entry.getState()).isEqualTo(RECEIVED));
+
+        assertThat(registry.transition("issuer-1", ISSUED)).isTrue();
+        assertThat(registry.transition("issuer-1", REJECTED)).isFalse();
+        assertThat(registry.transition("unknown", ISSUED)).isFalse();
+
+        assertThat(registry.get("issuer-1")).hasValueSatisfying(entry -> assertThat(entry.getState()).isEqualTo(ISSUED));
+    }
+
+    @Test
+    void verifyConcurrentTransitions() throws InterruptedException {
+        var registry = CredentialRequestRegistry.Builder.newInstance().build();
+        registry.register("issuer-1", request("holder-1"));
+        var succeeded = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 100).forEach(i -> executor.execute(() -> {
+            if (registry.transition("issuer-1", i % 2 == 0 ? ISSUED : REJECTED)) {
+                succeeded.incrementAndGet();
+            }
+        }));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(succeeded.get()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyHolderIndex() {
+        registry.register("issuer-1", request("holder-1"));
+        registry.register("issuer-2", request("holder-1"));
+        registry.register("issuer-3", request("holder-2"));
+
+        assertThat(registry.findByHolderPid("holder-1")).extracting(CredentialRequestRegistry.Entry::getIssuerPid)
+                .containsExactlyInAnyOrder("issuer-1", "issuer-2");
+
+        registry.remove("issuer-1");
+        assertThat(registry.findByHolderPid("holder-1")).extracting(CredentialRequestRegistry.Entry::getIssuerPid).containsExactly("issuer-2");
+        assertThat(registry.findByHolderPid("unknown")).isEmpty();
+    }
+
+    @Test
+    void verifyTerminalEntriesExpire() {
+        registry.register("issuer-1", request("holder-1"));
+        registry.register("issuer-2", request("holder-1"));
+        registry.transition("issuer-1", REJECTED);
+
+        when(clock.millis()).thenReturn(10_000L);
+        registry.expire();
+
+        assertThat(registry.get("issuer-1")).isEmpty();
+        assertThat(registry.get("issuer-2")).isPresent();
+        assertThat(registry.findByHolderPid("holder-1")).hasSize(1);
+    }
+
+    @Test
+    void verifyCapacity() {
+        registry.register("issuer-1", request("holder-1"));
+        registry.register("issuer-2", request("holder-1"));
+        registry.register("issuer-3", request("holder-1"));
+
+        assertThat(registry.register("issuer-4", request("holder-1")).failed()).isTrue();
+
+        // terminal entries make room before their retention period has passed
+        registry.transition("issuer-2", ISSUED);
+        assertThat(registry.register("issuer-4", request("holder-1")).succeeded()).isTrue();
+        assertThat(registry.get("issuer-2")).isEmpty();
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    private CredentialRequestMessage request(String holderPid) {
+        return new ObjectMapper().convertValue(Map.of(
+                "type", "CredentialRequestMessage",
+                "holderPid", holderPid,
+                "credentials", List.of(Map.of("id", "membership"))), CredentialRequestMessage.class);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.pex;
+
+import org.eclipse.dataspacetck.dcp.system.cs.InMemoryCredentialStore;
+import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
+import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.dataspacetck.dcp.system.model.vc.CredentialFormat.VC1_0_JWT;
+import static org.eclipse.dataspacetck.dcp.system.service.Result.ErrorType.NOT_FOUND;
+
+class PresentationDefinitionCompilerTest {
+    private final PresentationDefinitionCompiler compiler = new PresentationDefinitionCompiler();
+
+    @Test
+    void verifySelect() {
+        var gold = credential("MembershipCredential", "gold", 3);
+        var silver = credential("MembershipCredential", "silver", 1);
+        var sensitive = credential("SensitiveDataCredential", "gold", 3);
+        var store = new InMemoryCredentialStore();
+        store.add(List.of(gold, silver, sensitive));
+
+        var definition = definition(List.of(
+                field(List.of("$.vc.type"), Map.of("type", "string", "pattern", "^MembershipCredential$")),
+                field(List.of("$.credentialSubject.level", "$.credentialSubject['tier']"), Map.of("enum", List.of("gold", "platinum"))),
+                field(List.of("$.credentialSubject.years"), Map.of("type", "integer", "minimum", 2))));
+
+        var compiled = compiler.compile(definition).getContent();
+
+        assertThat(compiled.select(store, List.of("MembershipCredential", "SensitiveDataCredential")).getContent()).containsExactly(gold);
+        assertThat(compiled.select(store, List.of("SensitiveDataCredential")).failed()).isTrue();
+    }
+
+    @Test
+    void verifySelectReportsUnsatisfiedDescriptor() {
+        var store = new InMemoryCredentialStore();
+        store.add(List.of(credential("MembershipCredential", "gold", 3)));
+        var membership = Map.of("id", "membership", "constraints", Map.of("fields", List.of(
+                field(List.of("$.type"), Map.of("type", "string", "pattern", "^MembershipCredential$")))));
+        var sensitive = Map.of("id", "sensitive", "constraints", Map.of("fields", List.of(
+                field(List.of("$.type"), Map.of("type", "string", "pattern", "^SensitiveDataCredential$")))));
+        var definition = Map.<String, Object>of("id", randomUUID().toString(), "input_descriptors", List.of(membership, sensitive));
+
+        var result = compiler.compile(definition).getContent().select(store, List.of("MembershipCredential"));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getErrorType()).isEqualTo(NOT_FOUND);
+        assertThat(result.getFailure()).contains("[sensitive]").doesNotContain("membership]");
+    }
+
+    @Test
+    void verifyOptionalField() {
+        var store = new InMemoryCredentialStore();
+        var membership = credential("MembershipCredential", "gold", 3);
+        store.add(List.of(membership));
+        var optional = Map.<String, Object>of("path", List.of("$.credentialSubject.missing"), "optional", true);
+
+        var compiled = compiler.compile(definition(List.of(optional))).getContent();
+
+        assertThat(compiled.select(store, List.of("MembershipCredential")).getContent()).containsExactly(membership);
+    }
+
+    @Test
+    void verifyCompiledDefinitionCached() {
+        var definition = definition(List.of(field(List.of("$.type"), Map.of("type", "string"))));
+
+        var first = compiler.compile(definition).getContent();
+        var second = compiler.compile(Map.copyOf(definition)).getContent();
+
+        assertThat(second).isSameAs(first);
+        assertThat(compiler.size()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyChangedDefinitionCompiledAgain() {
+        var definition = new HashMap<>(definition(List.of(field(List.of("$.type"), Map.of("type", "string")))));
+        var first = compiler.compile(definition).getContent();
+
+        // the caller reuses the id and its map for a different definition
+        definition.put("input_descriptors", List.of(Map.of("id", "other", "constraints", Map.of("fields", List.of()))));
+        var second = compiler.compile(definition).getContent();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.descriptors()).extracting(CompiledPresentationDefinition.InputDescriptor::id).containsExactly("other");
+    }
+
+    @Test
+    void verifyInvalidDefinitions() {
+        assertThat(compiler.compile(null).failed()).isTrue();
+        assertThat(compiler.compile(Map.of()).failed()).isTrue();
+        assertThat(compiler.compile(Map.of("id", "pd")).failed()).isTrue();
+        assertThat(compiler.compile(definition(List.of(field(List.of("type"), Map.of())))).failed()).isTrue();
+        assertThat(compiler.compile(definition(List.of(field(List.of("$.type"), Map.of("pattern", "[")))))
+                .getFailure()).contains("Invalid filter pattern");
+    }
+
+    @Test
+    void verifyJsonPath() {
+        var document = Map.of("a", List.of(Map.of("b", 1), Map.of("b", 2)), "c", Map.of("d", "x"));
+
+        assertThat(JsonPath.compile("$.a[*].b").read(document)).containsExactly(1, 2);
+        assertThat(JsonPath.compile("$.a[1].b").read(document)).containsExactly(2);
+        assertThat(JsonPath.compile("$['c'].d").read(document)).containsExactly("x");
+        assertThat(JsonPath.compile("$.c.missing").read(document)).isEmpty();
+        assertThatThrownBy(() -> JsonPath.compile("$.a[?(@.b)]")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<String, Object> definition(List<Map<String, Object>> fields) {
+        var descriptor = Map.of("id", "descriptor", "constraints", Map.of("fields", fields));
+        return Map.of("id", randomUUID().toString(), "input_descriptors", List.of(descriptor));
+    }
+
+    private Map<String, Object> field(List<String> paths, Map<String, Object> filter) {
+        return Map.of("path", paths, "filter", filter);
+    }
+
+    private VcContainer credential(String type, String level, int years) {
+        var credential = VerifiableCredential.Builder.newInstance()
+                .id(randomUUID().toString())
+                .issuer("did:web:issuer")
+                .issuanceDate("2024-01-01T00:00:00Z")
+                .type(List.of("VerifiableCredential", type))
+                .credentialSubject(Map.of("id", "did:web:holder", "level", level, "years", years))
+                .build();
+        return new VcContainer(type, "raw", credential, VC1_0_JWT);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BitStringTest {
+
+    @Test
+    void verifyByteOrder() {
+        var leftToRight = BitString.Builder.newInstance().size(16).build();
+        var rightToLeft = BitString.Builder.newInstance().size(16).leftToRightIndexing(false).build();
+        for (var idx : new int[]{ 0, 9, 15 }) {
+            leftToRight.set(idx, true);
+            rightToLeft.set(idx, true);
+        }
+
+        assertThat(leftToRight.toByteArray()).containsExactly(0x80, 0x41);
+        assertThat(rightToLeft.toByteArray()).containsExactly(0x01, 0x82);
+    }
+
+    @Test
+    void verifySetAndGet() {
+        var bitString = BitString.Builder.newInstance().size(128).build();
+
+        bitString.set(70, true);
+        assertThat(bitString.get(70)).isTrue();
+        assertThat(bitString.get(71)).isFalse();
+
+        bitString.set(70, false);
+        assertThat(bitString.get(70)).isFalse();
+        assertThatThrownBy(() -> bitString.get(128)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifySetRange() {
+        var bitString = BitString.Builder.newInstance().size(256).build();
+
+        bitString.setRange(3, 200, true);
+        assertThat(bitString.cardinality()).isEqualTo(197);
+        assertThat(bitString.nextSetBit(0)).isEqualTo(3);
+        assertThat(bitString.get(199)).isTrue();
+        assertThat(bitString.get(200)).isFalse();
+
+        bitString.setRange(60, 70, false);
+        assertThat(bitString.cardinality()).isEqualTo(187);
+        assertThat(bitString.nextSetBit(60)).isEqualTo(70);
+    }
+
+    @Test
+    void verifySetAll() {
+        var bitString = BitString.Builder.newInstance().size(1024).build();
+
+        bitString.setAll(new int[]{ 1000, 5, 64, 63, 5 }, true);
+
+        assertThat(bitString.cardinality()).isEqualTo(4);
+        assertThat(bitString.nextSetBit(6)).isEqualTo(63);
+        assertThat(bitString.nextSetBit(65)).isEqualTo(1000);
+        assertThat(bitString.nextSetBit(1001)).isEqualTo(-1);
+        assertThatThrownBy(() -> bitString.setAll(new int[]{ 1, 1024 }, true)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyOrAnd() {
+        var first = BitString.Builder.newInstance().size(128).build();
+        var second = BitString.Builder.newInstance().size(128).build();
+        first.setAll(new int[]{ 1, 2, 100 }, true);
+        second.setAll(new int[]{ 2, 3 }, true);
+
+        first.or(second);
+        assertThat(first.cardinality()).isEqualTo(4);
+
+        first.and(second);
+        assertThat(first.cardinality()).isEqualTo(2);
+        assertThat(first.get(2)).isTrue();
+        assertThat(first.get(3)).isTrue();
+    }
+
+    @Test
+    void verifyConcurrentWriters() throws InterruptedException {
+        var bitString = BitString.Builder.newInstance().size(64 * 16).build();
+        var executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, bitString.length()).forEach(idx -> executor.execute(() -> bitString.set(idx, true)));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(bitString.cardinality()).isEqualTo(bitString.length());
+    }
+
+    @Test
+    void verifyWriter() throws Exception {
+        var bitString = BitString.Builder.newInstance().build();
+        bitString.set(0, true);
+        bitString.set(bitString.length() - 1, true);
+
+        var encoded = BitString.Writer.newInstance().write(bitString);
+
+        assertThat(encoded.succeeded()).isTrue();
+        try (var stream = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded.getContent())))) {
+            var bytes = stream.readAllBytes();
+            assertThat(bytes).hasSize(bitString.length() / 8);
+            assertThat(bytes[0]).isEqualTo((byte) 0x80);
+            assertThat(bytes[bytes.length - 1]).isEqualTo((byte) 0x01);
+        }
+    }
+
+    @Test
+    void verifyParser() {
+        var bitString = BitString.Builder.newInstance().size(1024).build();
+        bitString.setAll(new int[]{ 0, 9, 700, 1023 }, true);
+        var encoded = BitString.Writer.newInstance().encoder(Base64.getUrlEncoder().withoutPadding()).write(bitString).getContent();
+
+        var parsed = BitString.Parser.newInstance().decoder(Base64.getUrlDecoder()).parse(encoded);
+
+        assertThat(parsed.succeeded()).isTrue();
+        assertThat(parsed.getContent().length()).isEqualTo(1024);
+        assertThat(parsed.getContent().toByteArray()).isEqualTo(bitString.toByteArray());
+        assertThat(BitString.Parser.newInstance().parse("invalid").failed()).isTrue();
+    }
+
+    @Test
+    void verifyParseEncodedList() {
+        var bitString = BitString.Builder.newInstance().size(131072).build();
+        bitString.setAll(new int[]{ 1, 64, 65, 131071 }, true);
+        var encoded = BitString.Writer.newInstance().encoder(Base64.getUrlEncoder().withoutPadding()).write(bitString).getContent();
+
+        var multibase = BitString.Parser.newInstance().parseEncodedList("u" + encoded);
+        var plain = BitString.Parser.newInstance().parseEncodedList(BitString.Writer.newInstance().write(bitString).getContent());
+
+        assertThat(multibase.getContent().toByteArray()).isEqualTo(bitString.toByteArray());
+        assertThat(plain.getContent().toByteArray()).isEqualTo(bitString.toByteArray());
+    }
+
+    @Test
+    void verifyParserBoundsInput() {
+        var encoded = BitString.Writer.newInstance().write(BitString.Builder.newInstance().size(1024).build()).getContent();
+
+        assertThat(BitString.Parser.newInstance().maxLength(512).parse(encoded).getFailure()).contains("exceeds the maximum length");
+        assertThat(BitString.Parser.newInstance().parse(encoded.substring(0, encoded.length() - 8)).failed()).isTrue();
+        assertThat(BitString.Parser.newInstance().parse("H4sI").failed()).isTrue();
+    }
+}
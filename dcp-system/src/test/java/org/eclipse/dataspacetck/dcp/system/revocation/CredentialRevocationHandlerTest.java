@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CredentialRevocationHandlerTest {
+    private final BitstringStatusListService service = new BitstringStatusListService("did:web:issuer", "http://localhost/statuslist");
+    private final CredentialRevocationHandler handler = new CredentialRevocationHandler(service, new ObjectMapper());
+
+    @Test
+    void verifyCredentialCachedUntilChanged() {
+        var first = service.createStatusListCredential();
+        assertThat(service.createStatusListCredential()).isSameAs(first);
+
+        service.setRevoked(7);
+        var second = service.createStatusListCredential();
+        assertThat(second).isNotSameAs(first);
+        assertThat(service.getVersion()).isEqualTo(1);
+
+        // revoking an already revoked index does not change the list
+        service.setRevoked(7);
+        assertThat(service.getVersion()).isEqualTo(1);
+        assertThat(service.createStatusListCredential()).isSameAs(second);
+    }
+
+    @Test
+    void verifyConditionalRequest() {
+        var response = handler.apply(Map.of(), new ByteArrayInputStream(new byte[0]));
+        assertThat(response.code()).isEqualTo(200);
+        var etag = response.headers().get("ETag");
+        assertThat(etag).isNotNull();
+
+        var notModified = handler.apply(Map.of("if-none-match", List.of("\"other\", " + etag)), new ByteArrayInputStream(new byte[0]));
+        assertThat(notModified.code()).isEqualTo(304);
+        assertThat(notModified.body()).isEmpty();
+
+        service.setRevoked(3);
+        var modified = handler.apply(Map.of("If-None-Match", List.of(etag)), new ByteArrayInputStream(new byte[0]));
+        assertThat(modified.code()).isEqualTo(200);
+        assertThat(modified.headers().get("ETag")).isNotEqualTo(etag);
+        assertThat(modified.body()).isNotEqualTo(response.body());
+    }
+
+    @Test
+    void verifyEtagDiffersForSameVersion() {
+        // a reopened list starts over at version 0 with the same credential id
+        var before = new BitstringStatusListService("did:web:issuer", "http://localhost", "list", BitString.Builder.newInstance().size(64).build());
+        var after = new BitstringStatusListService("did:web:issuer", "http://localhost", "list", BitString.Builder.newInstance().size(64).build());
+        before.setRevoked(1);
+        after.setRevoked(2);
+
+        var beforeEtag = new CredentialRevocationHandler(before, new ObjectMapper()).apply(Map.of(), new ByteArrayInputStream(new byte[0])).headers().get("ETag");
+        var afterResponse = new CredentialRevocationHandler(after, new ObjectMapper()).apply(Map.of("If-None-Match", List.of(beforeEtag)), new ByteArrayInputStream(new byte[0]));
+
+        assertThat(before.getVersion()).isEqualTo(after.getVersion());
+        assertThat(afterResponse.code()).isEqualTo(200);
+    }
+}
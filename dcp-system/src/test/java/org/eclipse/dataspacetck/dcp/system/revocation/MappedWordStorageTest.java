@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedWordStorageTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void verifyReopen() throws IOException {
+        var file = directory.resolve("list" + MappedWordStorage.FILE_EXTENSION);
+        var storage = MappedWordStorage.create(file, 1024, 3);
+        var bitString = BitString.Builder.newInstance().size(1024).storage(storage).build();
+        bitString.set(5, true);
+        bitString.setRange(100, 300, true);
+
+        var reopened = MappedWordStorage.open(file);
+        var reopenedBitString = BitString.Builder.newInstance().size(reopened.getLength()).storage(reopened).build();
+
+        assertThat(reopened.getSequence()).isEqualTo(3);
+        assertThat(reopenedBitString.cardinality()).isEqualTo(201);
+        assertThat(reopenedBitString.toByteArray()).isEqualTo(bitString.toByteArray());
+        assertThat(Files.size(file)).isEqualTo(MappedWordStorage.HEADER_SIZE + 1024 / 8);
+    }
+
+    @Test
+    void verifyAllocatedPersisted() throws IOException {
+        var file = directory.resolve("list" + MappedWordStorage.FILE_EXTENSION);
+        var storage = MappedWordStorage.create(file, 1024, 0);
+        storage.updateAllocated(5);
+        storage.updateAllocated(3);
+        storage.close();
+
+        var reopened = MappedWordStorage.open(file);
+
+        assertThat(reopened.getAllocated()).isEqualTo(5);
+        reopened.close();
+    }
+
+    @Test
+    void verifyClosedStorageRejectsAccess() throws IOException {
+        var storage = MappedWordStorage.create(directory.resolve("list" + MappedWordStorage.FILE_EXTENSION), 64, 0);
+        storage.close();
+        storage.close();
+
+        assertThatThrownBy(() -> storage.get(0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(storage::getAllocated).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void verifyCreateDoesNotOverwrite() throws IOException {
+        var file = directory.resolve("list" + MappedWordStorage.FILE_EXTENSION);
+        MappedWordStorage.create(file, 64, 0);
+
+        assertThatThrownBy(() -> MappedWordStorage.create(file, 64, 1)).isInstanceOf(FileAlreadyExistsException.class);
+    }
+
+    @Test
+    void verifyInvalidFileRejected() throws IOException {
+        var file = directory.resolve("invalid" + MappedWordStorage.FILE_EXTENSION);
+        Files.write(file, new byte[32]);
+
+        assertThatThrownBy(() -> MappedWordStorage.open(file)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void verifyTruncatedFileRejected() throws IOException {
+        var file = directory.resolve("list" + MappedWordStorage.FILE_EXTENSION);
+        MappedWordStorage.create(file, 1024, 0);
+        var truncated = directory.resolve("truncated" + MappedWordStorage.FILE_EXTENSION);
+        Files.write(truncated, Files.readAllBytes(file), CREATE_NEW);
+        try (var channel = FileChannel.open(truncated, WRITE)) {
+            channel.truncate(64);
+        }
+
+        assertThatThrownBy(() -> MappedWordStorage.open(truncated)).isInstanceOf(IOException.class).hasMessageContaining("Corrupt");
+    }
+}
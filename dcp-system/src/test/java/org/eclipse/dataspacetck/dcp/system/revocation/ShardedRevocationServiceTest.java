@@ -0,0 +1,222 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedRevocationServiceTest {
+    private static final String ADDRESS = "http://localhost:8083";
+
+    private final ShardedRevocationService service = ShardedRevocationService.Builder.newInstance()
+            .factory((credentialId, bitString) -> new BitstringStatusListService("did:web:issuer", ADDRESS, credentialId, bitString))
+            .listSize(16)
+            .build();
+
+    @Test
+    void verifyRollover() {
+        var created = new ArrayList<String>();
+        service.onStatusListCreated(list -> created.add(list.getCredentialId()));
+
+        var allocations = IntStream.range(0, 20).mapToObj(i -> service.allocate()).toList();
+
+        assertThat(allocations.get(15).credentialId()).isEqualTo(service.getCredentialId());
+        assertThat(allocations.get(15).statusListIndex()).isEqualTo(15);
+        assertThat(allocations.get(16).credentialId()).isNotEqualTo(service.getCredentialId());
+        assertThat(allocations.get(16).statusListIndex()).isEqualTo(0);
+        assertThat(allocations.get(16).statusListCredential()).isEqualTo(ADDRESS + "/statuslist/" + allocations.get(16).credentialId());
+        assertThat(created).containsExactly(service.getCredentialId(), allocations.get(16).credentialId());
+        assertThat(service.getStatusLists()).hasSize(2);
+    }
+
+    @Test
+    void verifyRevocationRoutedToList() {
+        var allocations = IntStream.range(0, 17).mapToObj(i -> service.allocate()).toList();
+        var last = allocations.get(16);
+
+        service.setRevoked(last.credentialId(), last.statusListIndex());
+
+        assertThat(service.isRevoked(last.credentialId(), last.statusListIndex())).isTrue();
+        assertThat(service.isRevoked(service.getCredentialId(), last.statusListIndex())).isFalse();
+        assertThat(service.getStatusList(last.credentialId()).getVersion()).isEqualTo(1);
+        assertThat(service.isRevoked("unknown", 0)).isFalse();
+        assertThatThrownBy(() -> service.setRevoked("unknown", 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void verifyReleasedEntryReused() {
+        var first = service.allocate();
+        service.allocate();
+
+        service.release(first);
+
+        assertThat(service.allocate()).isEqualTo(first);
+        assertThat(service.allocate().statusListIndex()).isEqualTo(2);
+    }
+
+    @Test
+    void verifyDuplicateReleaseRejected() {
+        var allocation = service.allocate();
+        service.release(allocation);
+
+        assertThatThrownBy(() -> service.release(allocation)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.allocate()).isEqualTo(allocation);
+        assertThat(service.allocate().statusListIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyIssuedEntryNotReleased() {
+        var allocation = service.allocate();
+        service.markIssued(allocation);
+
+        assertThatThrownBy(() -> service.release(allocation)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.markIssued(allocation)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.allocate().statusListIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyAllocationInNewList() {
+        var current = service.allocate();
+
+        var dedicated = service.allocateInNewList();
+
+        assertThat(dedicated.credentialId()).isNotEqualTo(current.credentialId());
+        assertThat(dedicated.statusListIndex()).isEqualTo(0);
+        assertThat(service.getStatusLists()).hasSize(2);
+        // the new list does not become current and is not allocated from
+        var next = service.allocate();
+        assertThat(next.credentialId()).isEqualTo(current.credentialId());
+        assertThat(next.statusListIndex()).isEqualTo(1);
+        service.markIssued(dedicated);
+    }
+
+    @Test
+    void verifyNewListNotReusedAfterRestart(@TempDir Path directory) {
+        var persistent = persistentService(directory);
+        var allocation = persistent.allocate();
+        persistent.allocateInNewList();
+        persistent.close();
+
+        var reopened = persistentService(directory);
+
+        var next = reopened.allocate();
+        assertThat(next.credentialId()).isEqualTo(allocation.credentialId());
+        assertThat(next.statusListIndex()).isEqualTo(1);
+        reopened.close();
+    }
+
+    @Test
+    void verifyConcurrentAllocation() throws InterruptedException {
+        var allocations = Set.copyOf(allocateConcurrently(1000));
+
+        assertThat(allocations).hasSize(1000);
+        assertThat(service.getStatusLists()).hasSize(1000 / 16 + 1);
+    }
+
+    @Test
+    void verifyPersistentListsReopened(@TempDir Path directory) {
+        var persistent = persistentService(directory);
+        var allocation = persistent.allocate();
+        persistent.setRevoked(allocation.credentialId(), allocation.statusListIndex());
+        persistent.close();
+
+        var reopened = persistentService(directory);
+
+        assertThat(reopened.getCredentialId()).isEqualTo(persistent.getCredentialId());
+        assertThat(reopened.isRevoked(allocation.credentialId(), allocation.statusListIndex())).isTrue();
+        // allocation continues after the entries handed out before, without creating a new list
+        var next = reopened.allocate();
+        assertThat(next.credentialId()).isEqualTo(allocation.credentialId());
+        assertThat(next.statusListIndex()).isEqualTo(allocation.statusListIndex() + 1);
+        assertThat(reopened.isRevoked(next.credentialId(), next.statusListIndex())).isFalse();
+        assertThat(reopened.getStatusLists()).hasSize(1);
+        reopened.close();
+    }
+
+    @Test
+    void verifyFullPersistentListNotReused(@TempDir Path directory) {
+        var persistent = persistentService(directory);
+        var allocations = IntStream.range(0, 16).mapToObj(i -> persistent.allocate()).toList();
+        persistent.close();
+
+        var reopened = persistentService(directory);
+
+        assertThat(reopened.getCredentialId()).isNotEqualTo(allocations.get(0).credentialId());
+        assertThat(reopened.allocate().statusListIndex()).isEqualTo(0);
+        assertThat(reopened.getStatusLists()).hasSize(2);
+        reopened.close();
+    }
+
+    @Test
+    void verifyReservedEntriesSkippedWithoutClose(@TempDir Path directory) {
+        var persistent = persistentService(directory, 1024);
+        var allocation = persistent.allocate();
+
+        // not closed, as after a crash
+        var reopened = persistentService(directory, 1024);
+
+        var next = reopened.allocate();
+        assertThat(next.credentialId()).isEqualTo(allocation.credentialId());
+        assertThat(next.statusListIndex()).isEqualTo(ShardedRevocationService.RESERVATION_CHUNK);
+        reopened.close();
+    }
+
+    @Test
+    void verifyClosedListsNotAccessible(@TempDir Path directory) {
+        var persistent = persistentService(directory);
+        var allocation = persistent.allocate();
+        persistent.close();
+
+        assertThatThrownBy(() -> persistent.isRevoked(allocation.credentialId(), allocation.statusListIndex()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(persistent::allocate).isInstanceOf(IllegalStateException.class);
+        // the handlers serving the lists access them directly
+        assertThatThrownBy(() -> persistent.getStatusList(allocation.credentialId()).isRevoked(0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ShardedRevocationService persistentService(Path directory) {
+        return persistentService(directory, 16);
+    }
+
+    private ShardedRevocationService persistentService(Path directory, int listSize) {
+        return ShardedRevocationService.Builder.newInstance()
+                .factory((credentialId, bitString) -> new BitstringStatusListService("did:web:issuer", ADDRESS, credentialId, bitString))
+                .listSize(listSize)
+                .directory(directory)
+                .build();
+    }
+
+    private List<StatusListAllocation> allocateConcurrently(int count) throws InterruptedException {
+        var allocations = ConcurrentHashMap.<StatusListAllocation>newKeySet();
+        var executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, count).forEach(i -> executor.execute(() -> allocations.add(service.allocate())));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        return List.copyOf(allocations);
+    }
+}
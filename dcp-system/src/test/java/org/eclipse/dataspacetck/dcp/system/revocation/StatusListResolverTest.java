@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.revocation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StatusListResolverTest {
+    private static final Instant NOW = Instant.ofEpochSecond(1_000_000);
+
+    private final BitstringStatusListService statusList = new BitstringStatusListService("did:web:issuer", "http://localhost");
+    private final List<Integer> responseCodes = new CopyOnWriteArrayList<>();
+    private final Clock clock = mock();
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(clock.instant()).thenReturn(NOW);
+        var handler = new CredentialRevocationHandler(statusList, new ObjectMapper());
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/statuslist", exchange -> {
+            try (exchange) {
+                var response = handler.apply(exchange.getRequestHeaders(), exchange.getRequestBody());
+                responseCodes.add(response.code());
+                response.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+                var body = response.body().getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(response.code(), body.length == 0 ? -1 : body.length);
+                if (body.length > 0) {
+                    exchange.getResponseBody().write(body);
+                }
+            }
+        });
+        server.start();
+        url = "http://localhost:%s/statuslist/%s".formatted(server.getAddress().getPort(), statusList.getCredentialId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void verifyStatusResolved() {
+        statusList.setRevoked(3);
+        var resolver = createResolver();
+
+        assertThat(resolver.isRevoked(url, 3, "revocation").getContent()).isTrue();
+        assertThat(resolver.isRevoked(url, 4, "revocation").getContent()).isFalse();
+        assertThat(resolver.isRevoked(Map.of("statusListCredential", url, "statusListIndex", "3")).getContent()).isTrue();
+        // the list is fetched once
+        assertThat(responseCodes).containsExactly(200);
+    }
+
+    @Test
+    void verifyRevalidation() {
+        var resolver = createResolver();
+        assertThat(resolver.isRevoked(url, 3, null).getContent()).isFalse();
+
+        // unchanged list
+        when(clock.instant()).thenReturn(NOW.plusSeconds(61));
+        assertThat(resolver.isRevoked(url, 3, null).getContent()).isFalse();
+
+        // the cached list is used until the ttl passes again
+        statusList.setRevoked(3);
+        assertThat(resolver.isRevoked(url, 3, null).getContent()).isFalse();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(122));
+        assertThat(resolver.isRevoked(url, 3, null).getContent()).isTrue();
+        assertThat(responseCodes).containsExactly(200, 304, 200);
+    }
+
+    @Test
+    void verifyFailures() {
+        var resolver = createResolver();
+
+        assertThat(resolver.isRevoked(url, 3, "suspension").failed()).isTrue();
+        assertThat(resolver.isRevoked(url, statusList.size(), null).failed()).isTrue();
+        assertThat(resolver.isRevoked(url.replace("/statuslist/", "/unknown/"), 3, null).failed()).isTrue();
+        assertThat(resolver.isRevoked(Map.of("statusListIndex", "3")).failed()).isTrue();
+    }
+
+    private StatusListResolver createResolver() {
+        return StatusListResolver.Builder.newInstance()
+                .ttl(Duration.ofSeconds(60))
+                .clock(clock)
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.sts;
+
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.nimbusds.jose.JWSAlgorithm.ES256;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.dataspacetck.dcp.system.crypto.Keys.generateEcKey;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RemoteStsClientTest {
+    private static final String AUDIENCE = "did:web:verifier";
+    private static final Instant NOW = Instant.ofEpochSecond(1_000_000);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Clock clock = mock();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(clock.instant()).thenReturn(NOW);
+        var key = generateEcKey();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/sts/token", exchange -> {
+            var count = requests.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+                var claims = new JWTClaimsSet.Builder()
+                        .claim("token", "token-" + count)
+                        .expirationTime(Date.from(NOW.plusSeconds(300)))
+                        .build();
+                var jwt = new SignedJWT(new JWSHeader(ES256), claims);
+                jwt.sign(new ECDSASigner(key));
+                var body = ("{\"access_token\":\"" + jwt.serialize() + "\"}").getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (Exception e) {
+                exchange.sendResponseHeaders(500, -1);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void verifyConcurrentRequestsShareFetch() {
+        var client = createClient();
+
+        var first = client.obtainToken(AUDIENCE, List.of("scope1", "scope2"));
+        var second = client.obtainToken(AUDIENCE, List.of("scope2", "scope1"));
+        release.countDown();
+
+        assertThat(first.join().getContent()).isEqualTo("token-1");
+        assertThat(second.join().getContent()).isEqualTo("token-1");
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyTokenCachedUntilExpiry() {
+        release.countDown();
+        var client = createClient();
+
+        assertThat(client.obtainToken(AUDIENCE, List.of("scope1")).join().getContent()).isEqualTo("token-1");
+        assertThat(client.obtainToken(AUDIENCE, List.of("scope1")).join().getContent()).isEqualTo("token-1");
+        assertThat(requests.get()).isEqualTo(1);
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(300));
+        assertThat(client.obtainToken(AUDIENCE, List.of("scope1")).join().getContent()).isEqualTo("token-2");
+    }
+
+    @Test
+    void verifyRefreshAhead() {
+        release.countDown();
+        var client = createClient();
+        client.obtainToken(AUDIENCE, List.of("scope1")).join();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(290));
+
+        // the cached token is still returned while the refresh is running
+        assertThat(client.obtainToken(AUDIENCE, List.of("scope1")).join().getContent()).isEqualTo("token-1");
+        await().untilAsserted(() -> assertThat(client.obtainToken(AUDIENCE, List.of("scope1")).join().getContent()).isEqualTo("token-2"));
+    }
+
+    @Test
+    void verifyCacheDisabled() {
+        release.countDown();
+        var client = RemoteStsClient.Builder.newInstance()
+                .stsUrl("http://localhost:" + server.getAddress().getPort() + "/sts")
+                .clientId("client")
+                .clientSecret("secret")
+                .cacheEnabled(false)
+                .clock(clock)
+                .build();
+
+        client.obtainToken(AUDIENCE, List.of("scope1")).join();
+        client.obtainToken(AUDIENCE, List.of("scope1")).join();
+
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    private RemoteStsClient createClient() {
+        return RemoteStsClient.Builder.newInstance()
+                .stsUrl("http://localhost:" + server.getAddress().getPort() + "/sts")
+                .clientId("client")
+                .clientSecret("secret")
+                .refreshMargin(Duration.ofSeconds(30))
+                .cacheEnabled(true)
+                .clock(clock)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.system.verifier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dcp.system.verifier.ExpiringReplayStore.OverflowPolicy.EVICT_EARLIEST;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExpiringReplayStoreTest {
+    private final Clock clock = mock();
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+    }
+
+    @Test
+    void verifyReplayDetected() {
+        var store = ExpiringReplayStore.Builder.newInstance().clock(clock).build();
+
+        assertThat(store.register("jti1", Instant.ofEpochMilli(10_000)).succeeded()).isTrue();
+        var replay = store.register("jti1", Instant.ofEpochMilli(10_000));
+
+        assertThat(replay.failed()).isTrue();
+        assertThat(replay.getFailure()).isEqualTo("JTI already used");
+    }
+
+    @Test
+    void verifyExpiredEntriesDropped() {
+        var store = ExpiringReplayStore.Builder.newInstance().clock(clock).build();
+        store.register("jti1", Instant.ofEpochMilli(10_500));
+        store.register("jti2", Instant.ofEpochMilli(30_000));
+
+        when(clock.millis()).thenReturn(10_999L);
+        store.register("jti3", Instant.ofEpochMilli(40_000));
+        assertThat(store.size()).isEqualTo(3);
+
+        when(clock.millis()).thenReturn(11_000L);
+        store.register("jti4", Instant.ofEpochMilli(40_000));
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.register("jti1", Instant.ofEpochMilli(50_000)).succeeded()).isTrue();
+    }
+
+    @Test
+    void verifyRejectWhenFull() {
+        var store = ExpiringReplayStore.Builder.newInstance().clock(clock).maxEntries(2).build();
+        store.register("jti1", Instant.ofEpochMilli(10_000));
+        store.register("jti2", Instant.ofEpochMilli(20_000));
+
+        var result = store.register("jti3", Instant.ofEpochMilli(30_000));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.register("jti1", Instant.ofEpochMilli(10_000)).getFailure()).isEqualTo("JTI already used");
+    }
+
+    @Test
+    void verifyEvictEarliestWhenFull() {
+        var store = ExpiringReplayStore.Builder.newInstance().clock(clock).maxEntries(2).overflowPolicy(EVICT_EARLIEST).build();
+        store.register("jti1", Instant.ofEpochMilli(10_000));
+        store.register("jti2", Instant.ofEpochMilli(20_000));
+
+        assertThat(store.register("jti3", Instant.ofEpochMilli(30_000)).succeeded()).isTrue();
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.register("jti2", Instant.ofEpochMilli(20_000)).failed()).isTrue();
+    }
+
+    @Test
+    void verifyNoEntriesLeakedUnderConcurrentEviction() throws InterruptedException {
+        var store = ExpiringReplayStore.Builder.newInstance().clock(clock).maxEntries(50).overflowPolicy(EVICT_EARLIEST).build();
+        var executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 8).forEach(thread -> executor.execute(() -> {
+            for (var i = 0; i < 20_000; i++) {
+                store.register(thread + "-" + i, Instant.ofEpochMilli(1_000 + (i % 5) * 1_000));
+            }
+        }));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // once every token has expired, nothing but the new JTI may remain
+        when(clock.millis()).thenReturn(100_000L);
+        store.register("jti1", Instant.ofEpochMilli(200_000));
+
+        assertThat(store.size()).isEqualTo(1);
+    }
+}
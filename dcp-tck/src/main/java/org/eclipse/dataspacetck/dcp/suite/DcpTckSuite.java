@@ -26,7 +26,6 @@ import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.lang.Boolean.parseBoolean;
@@ -35,6 +34,13 @@ import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_LAUN
 import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
 import static org.eclipse.dataspacetck.core.system.ConsoleMonitor.ANSI_PROPERTY;
 import static org.eclipse.dataspacetck.core.system.ConsoleMonitor.DEBUG_PROPERTY;
+import static org.eclipse.dataspacetck.dcp.load.LoadConfiguration.LOAD_TEST_PACKAGE;
+import static org.eclipse.dataspacetck.dcp.load.LoadConfiguration.TCK_LOAD_PREFIX;
+import static org.eclipse.dataspacetck.dcp.load.LoadConfiguration.TCK_LOAD_RATE;
+import static org.eclipse.dataspacetck.dcp.suite.ReportListener.TCK_REPORT_DIR;
+import static org.eclipse.dataspacetck.dcp.suite.ShardCoordinator.TCK_SHARDS;
+import static org.eclipse.dataspacetck.dcp.suite.ShardCoordinator.TCK_SHARD_INDEX;
+import static org.eclipse.dataspacetck.dcp.suite.ShardCoordinator.TCK_SHARD_RESULTS;
 
 /**
  * Boots the DCP test suite.
@@ -45,6 +51,8 @@ public class DcpTckSuite {
     private static final String DEFAULT_LAUNCHER = "org.eclipse.dataspacetck.dcp.system.DcpSystemLauncher";
     private static final String DEFAULT_TEST_PACKAGE = "org.eclipse.dataspacetck.dcp.verification"; // will run all tests
     private static final String TCK_TEST_PACKAGE = TCK_PREFIX + ".test.package";
+    private static final String TCK_PARALLEL_WORKERS = TCK_PREFIX + ".parallel.workers";
+    private static final String JUNIT_PARALLEL_PREFIX = "junit.jupiter.execution.parallel";
 
     public static void main(String... args) {
         var properties = readConfig(args);
@@ -54,30 +62,100 @@ public class DcpTckSuite {
         var monitor = createMonitor(properties);
         monitor.enableBold().message("\u001B[1mRunning DCP TCK v" + VERSION + "\u001B[0m").resetMode();
 
+        var load = configureLoad(properties, monitor);
+        if (!load) {
+            configureParallelism(properties, monitor);
+        }
+
         var packages = properties.getOrDefault(TCK_TEST_PACKAGE, DEFAULT_TEST_PACKAGE).split(",");
 
-        var runtimeBuilder = TckRuntime.Builder.newInstance()
-                .properties(properties)
-                .monitor(monitor);
-
-        Stream.of(packages).forEach(runtimeBuilder::addPackage);
-        var result = runtimeBuilder
-                .build().execute();
-
-        if (!result.getFailures().isEmpty()) {
-            var failures = result.getFailures().stream()
-                    .map(f -> {
-                        var sw = new java.io.StringWriter();
-                        var pw = new java.io.PrintWriter(sw);
-                        f.getException().printStackTrace(pw);
-                        return "- " + f.getTestIdentifier().getDisplayName() + " (" + f.getException() + ")\n" + sw;
-                    })
-                    .collect(Collectors.joining("\n"));
-            monitor.enableError().message("There were failing tests:\n" + failures);
+        var shards = Integer.parseInt(properties.getOrDefault(TCK_SHARDS, "1"));
+        RunSummary result;
+        if (shards > 1 && !load && !properties.containsKey(TCK_SHARD_INDEX)) {
+            monitor.message("Running tests in " + shards + " shards");
+            result = new ShardCoordinator(properties, packages, shards, monitor).execute();
+            monitor.message("Completed " + result.total() + " tests in " + shards + " shards");
+        } else {
+            // the report listener is created by the launcher, make its settings available regardless of how the runtime
+            // passes configuration parameters
+            Stream.of(TCK_REPORT_DIR, TCK_SHARD_INDEX)
+                    .filter(properties::containsKey)
+                    .forEach(key -> System.setProperty(key, properties.get(key)));
+            var runtimeBuilder = TckRuntime.Builder.newInstance()
+                    .properties(properties)
+                    .monitor(monitor);
+
+            Stream.of(packages).forEach(runtimeBuilder::addPackage);
+            result = RunSummary.of(runtimeBuilder
+                    .build().execute());
+            writeShardResults(properties, result);
+        }
+
+        if (!result.failures().isEmpty()) {
+            monitor.enableError().message("There were failing tests:\n" + result.formatFailures());
+        }
+        if (properties.containsKey(TCK_REPORT_DIR)) {
+            monitor.resetMode().message("Test reports written to " + properties.get(TCK_REPORT_DIR));
         }
         monitor.resetMode().message("Test run complete");
     }
 
+    /**
+     * Hands the results of a shard worker to the {@link ShardCoordinator}.
+     */
+    private static void writeShardResults(Map<String, String> properties, RunSummary result) {
+        var path = properties.get(TCK_SHARD_RESULTS);
+        if (path == null) {
+            return;
+        }
+        try {
+            result.write(Path.of(path));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Switches to load mode if an arrival rate is configured. Load mode runs the load tests instead of the compliance
+     * tests, sequentially and in a single JVM, so that the measured throughput is not skewed by other tests.
+     */
+    private static boolean configureLoad(Map<String, String> properties, Monitor monitor) {
+        if (!properties.containsKey(TCK_LOAD_RATE)) {
+            return false;
+        }
+        properties.put(TCK_TEST_PACKAGE, LOAD_TEST_PACKAGE);
+        // load tests read their settings when they run
+        properties.entrySet().stream()
+                .filter(e -> e.getKey().startsWith(TCK_LOAD_PREFIX))
+                .forEach(e -> System.setProperty(e.getKey(), e.getValue()));
+        monitor.message("Running in load mode at " + properties.get(TCK_LOAD_RATE) + " requests per second");
+        return true;
+    }
+
+    /**
+     * Enables concurrent execution of test classes and methods when more than one worker is configured. Tests that
+     * receive callbacks from the system under test are serialized through a resource lock; all other tests run on a
+     * fixed-size pool. Explicitly configured JUnit parallel settings take precedence.
+     */
+    private static void configureParallelism(Map<String, String> properties, Monitor monitor) {
+        var workers = Integer.parseInt(properties.getOrDefault(TCK_PARALLEL_WORKERS, "1"));
+        if (workers <= 1) {
+            return;
+        }
+        properties.putIfAbsent(JUNIT_PARALLEL_PREFIX + ".enabled", "true");
+        properties.putIfAbsent(JUNIT_PARALLEL_PREFIX + ".mode.default", "concurrent");
+        properties.putIfAbsent(JUNIT_PARALLEL_PREFIX + ".mode.classes.default", "concurrent");
+        properties.putIfAbsent(JUNIT_PARALLEL_PREFIX + ".config.strategy", "fixed");
+        properties.putIfAbsent(JUNIT_PARALLEL_PREFIX + ".config.fixed.parallelism", String.valueOf(workers));
+        properties.putIfAbsent(JUNIT_PARALLEL_PREFIX + ".config.fixed.max-pool-size", String.valueOf(workers));
+        // like the report settings, pass the settings as system properties, which JUnit falls back to for configuration
+        // parameters that the runtime does not pass to the launcher
+        properties.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(JUNIT_PARALLEL_PREFIX))
+                .forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+        monitor.message("Running tests with " + workers + " parallel workers");
+    }
+
     @NotNull
     private static Monitor createMonitor(Map<String, String> properties) {
         var ansi = parseBoolean(properties.getOrDefault(ANSI_PROPERTY, "true"));
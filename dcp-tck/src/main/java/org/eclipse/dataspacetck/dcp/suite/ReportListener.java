@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.suite;
+
+import org.eclipse.dataspacetck.dcp.system.timing.StepTimings;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
+import static org.eclipse.dataspacetck.dcp.suite.ReportWriter.STATUS_ABORTED;
+import static org.eclipse.dataspacetck.dcp.suite.ReportWriter.STATUS_FAILED;
+import static org.eclipse.dataspacetck.dcp.suite.ReportWriter.STATUS_SKIPPED;
+import static org.eclipse.dataspacetck.dcp.suite.ReportWriter.STATUS_SUCCESSFUL;
+import static org.eclipse.dataspacetck.dcp.suite.ReportWriter.STEP_OTHER;
+
+/**
+ * Collects the results and step timings of all tests and writes them as JUnit XML and JSON reports to the directory set
+ * with {@link #TCK_REPORT_DIR}. The listener is registered through the service loader and does nothing if no report
+ * directory is configured.
+ */
+public class ReportListener implements TestExecutionListener {
+    public static final String TCK_REPORT_DIR = TCK_PREFIX + ".report.dir";
+    private static final String SUITE_NAME = "dcp-tck";
+
+    private final Map<String, Running> running = new ConcurrentHashMap<>();
+    private final List<ReportWriter.TestResult> results = Collections.synchronizedList(new ArrayList<>());
+    private Path reportDir;
+    private String fileSuffix;
+    private Instant started;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        var parameters = testPlan.getConfigurationParameters();
+        reportDir = parameters.get(TCK_REPORT_DIR).or(() -> ofSystem(TCK_REPORT_DIR)).map(Path::of).orElse(null);
+        fileSuffix = parameters.get(ShardCoordinator.TCK_SHARD_INDEX).or(() -> ofSystem(ShardCoordinator.TCK_SHARD_INDEX))
+                .map(index -> "-shard-" + index)
+                .orElse("");
+        started = Instant.now();
+        results.clear();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        if (reportDir != null && identifier.isTest()) {
+            // listeners are notified on the thread executing the test
+            running.put(identifier.getUniqueId(), new Running(System.nanoTime(), StepTimings.start()));
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier identifier, String reason) {
+        if (reportDir != null && identifier.isTest()) {
+            results.add(new ReportWriter.TestResult(className(identifier), identifier.getDisplayName(), STATUS_SKIPPED, 0, Map.of(),
+                    null, reason, null));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        if (reportDir == null || !identifier.isTest()) {
+            return;
+        }
+        var run = running.remove(identifier.getUniqueId());
+        if (run == null) {
+            return;
+        }
+        var durationMillis = (System.nanoTime() - run.start) / 1_000_000.0;
+        var steps = new LinkedHashMap<String, Double>();
+        var measured = 0.0;
+        for (var entry : run.recording.stop().entrySet()) {
+            var millis = entry.getValue().toNanos() / 1_000_000.0;
+            steps.put(entry.getKey().name(), millis);
+            measured += millis;
+        }
+        // steps timed on callback threads overlap with the test thread
+        steps.put(STEP_OTHER, Math.max(0, durationMillis - measured));
+
+        var status = switch (result.getStatus()) {
+            case SUCCESSFUL -> STATUS_SUCCESSFUL;
+            case ABORTED -> STATUS_ABORTED;
+            case FAILED -> STATUS_FAILED;
+        };
+        var throwable = result.getThrowable().orElse(null);
+        results.add(new ReportWriter.TestResult(className(identifier), identifier.getDisplayName(), status, durationMillis, steps,
+                throwable != null ? throwable.getClass().getName() : null,
+                throwable != null ? throwable.getMessage() : null,
+                throwable != null ? stackTrace(throwable) : null));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (reportDir == null) {
+            return;
+        }
+        var writer = new ReportWriter(SUITE_NAME);
+        List<ReportWriter.TestResult> snapshot;
+        synchronized (results) {
+            snapshot = List.copyOf(results);
+        }
+        try {
+            Files.createDirectories(reportDir);
+            writer.writeXml(reportDir.resolve("TEST-" + SUITE_NAME + fileSuffix + ".xml"), started, snapshot);
+            writer.writeJson(reportDir.resolve(SUITE_NAME + "-report" + fileSuffix + ".json"), started, snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Optional<String> ofSystem(String key) {
+        return Optional.ofNullable(System.getProperty(key));
+    }
+
+    private String className(TestIdentifier identifier) {
+        return identifier.getSource()
+                .filter(MethodSource.class::isInstance)
+                .map(source -> ((MethodSource) source).getClassName())
+                .orElse(SUITE_NAME);
+    }
+
+    private String stackTrace(Throwable throwable) {
+        var writer = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    private record Running(long start, StepTimings.Recording recording) {
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.suite;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Writes test results as JUnit XML and JSON reports.
+ */
+public class ReportWriter {
+    public static final String STATUS_SUCCESSFUL = "SUCCESSFUL";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_ABORTED = "ABORTED";
+    public static final String STATUS_SKIPPED = "SKIPPED";
+
+    /**
+     * The time not spent in any instrumented step.
+     */
+    public static final String STEP_OTHER = "OTHER";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String suiteName;
+
+    public ReportWriter(String suiteName) {
+        this.suiteName = suiteName;
+    }
+
+    /**
+     * Writes the report in the JSON format.
+     */
+    public void writeJson(Path path, Instant started, List<TestResult> results) throws IOException {
+        var report = new LinkedHashMap<String, Object>();
+        report.put("suite", suiteName);
+        report.put("timestamp", started.toString());
+        report.put("tests", results.size());
+        report.put("failures", count(results, STATUS_FAILED));
+        report.put("aborted", count(results, STATUS_ABORTED));
+        report.put("skipped", count(results, STATUS_SKIPPED));
+        report.put("durationMillis", results.stream().mapToDouble(TestResult::durationMillis).sum());
+        report.put("results", results);
+        MAPPER.writeValue(path.toFile(), report);
+    }
+
+    /**
+     * Writes the report in the JUnit XML format, with one test suite per test class. The time spent in each step is
+     * added to the test cases as properties.
+     */
+    public void writeXml(Path path, Instant started, List<TestResult> results) throws IOException {
+        var byClass = results.stream().collect(groupingBy(TestResult::className, LinkedHashMap::new, toList()));
+        try (var writer = Files.newBufferedWriter(path, UTF_8)) {
+            var xml = XMLOutputFactory.newFactory().createXMLStreamWriter(writer);
+            xml.writeStartDocument("UTF-8", "1.0");
+            newLine(xml);
+            xml.writeStartElement("testsuites");
+            writeCounts(xml, suiteName, results);
+            newLine(xml);
+            for (var entry : byClass.entrySet()) {
+                xml.writeStartElement("testsuite");
+                writeCounts(xml, entry.getKey(), entry.getValue());
+                xml.writeAttribute("timestamp", started.toString());
+                newLine(xml);
+                for (var result : entry.getValue()) {
+                    writeTestCase(xml, result);
+                    newLine(xml);
+                }
+                xml.writeEndElement();
+                newLine(xml);
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void writeTestCase(XMLStreamWriter xml, TestResult result) throws XMLStreamException {
+        xml.writeStartElement("testcase");
+        xml.writeAttribute("name", result.displayName());
+        xml.writeAttribute("classname", result.className());
+        xml.writeAttribute("time", seconds(result.durationMillis()));
+
+        xml.writeStartElement("properties");
+        for (var step : result.steps().entrySet()) {
+            xml.writeEmptyElement("property");
+            xml.writeAttribute("name", "step." + step.getKey().toLowerCase(Locale.ROOT));
+            xml.writeAttribute("value", seconds(step.getValue()));
+        }
+        xml.writeEndElement();
+
+        switch (result.status()) {
+            case STATUS_FAILED -> {
+                // assertion errors are failures, any other exception is an error
+                xml.writeStartElement(result.failureType() != null && result.failureType().contains("AssertionError") ? "failure" : "error");
+                writeFailure(xml, result);
+            }
+            case STATUS_ABORTED, STATUS_SKIPPED -> {
+                xml.writeStartElement("skipped");
+                if (result.failureMessage() != null) {
+                    xml.writeAttribute("message", result.failureMessage());
+                }
+                xml.writeEndElement();
+            }
+            default -> {
+            }
+        }
+        xml.writeEndElement();
+    }
+
+    private void writeFailure(XMLStreamWriter xml, TestResult result) throws XMLStreamException {
+        if (result.failureMessage() != null) {
+            xml.writeAttribute("message", result.failureMessage());
+        }
+        if (result.failureType() != null) {
+            xml.writeAttribute("type", result.failureType());
+        }
+        if (result.stackTrace() != null) {
+            xml.writeCData(result.stackTrace());
+        }
+        xml.writeEndElement();
+    }
+
+    private void writeCounts(XMLStreamWriter xml, String name, List<TestResult> results) throws XMLStreamException {
+        var failed = results.stream().filter(r -> STATUS_FAILED.equals(r.status())).toList();
+        var errors = failed.stream().filter(r -> r.failureType() == null || !r.failureType().contains("AssertionError")).count();
+        xml.writeAttribute("name", name);
+        xml.writeAttribute("tests", String.valueOf(results.size()));
+        xml.writeAttribute("failures", String.valueOf(failed.size() - errors));
+        xml.writeAttribute("errors", String.valueOf(errors));
+        xml.writeAttribute("skipped", String.valueOf(count(results, STATUS_SKIPPED) + count(results, STATUS_ABORTED)));
+        xml.writeAttribute("time", seconds(results.stream().mapToDouble(TestResult::durationMillis).sum()));
+    }
+
+    private long count(List<TestResult> results, String status) {
+        return results.stream().filter(r -> status.equals(r.status())).count();
+    }
+
+    private String seconds(double millis) {
+        return String.format(Locale.ROOT, "%.3f", millis / 1000);
+    }
+
+    private void newLine(XMLStreamWriter xml) throws XMLStreamException {
+        xml.writeCharacters("\n");
+    }
+
+    /**
+     * The result of a single test.
+     *
+     * @param className      the test class
+     * @param displayName    the display name of the test
+     * @param status         the outcome, one of the {@code STATUS} constants
+     * @param durationMillis the duration of the test in milliseconds
+     * @param steps          the time in milliseconds spent in each instrumented step and in {@link #STEP_OTHER}
+     * @param failureType    the type of the exception the test failed with
+     * @param failureMessage the message of the exception the test failed with, or the reason it was skipped
+     * @param stackTrace     the stack trace of the exception the test failed with
+     */
+    public record TestResult(String className, String displayName, String status, double durationMillis, Map<String, Double> steps,
+                             String failureType, String failureMessage, String stackTrace) {
+    }
+}
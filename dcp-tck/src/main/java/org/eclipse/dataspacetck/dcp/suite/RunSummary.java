@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.suite;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The outcome of a test run in a form that can be exchanged between the shard workers and the coordinator.
+ *
+ * @param succeeded the number of successful tests
+ * @param failed    the number of failed tests
+ * @param aborted   the number of aborted tests
+ * @param skipped   the number of skipped tests
+ * @param failures  the failed tests
+ */
+public record RunSummary(long succeeded, long failed, long aborted, long skipped, List<Failure> failures) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public RunSummary {
+        failures = List.copyOf(failures);
+    }
+
+    public static RunSummary of(TestExecutionSummary summary) {
+        var failures = summary.getFailures().stream()
+                .map(f -> {
+                    var sw = new StringWriter();
+                    f.getException().printStackTrace(new PrintWriter(sw));
+                    return new Failure(f.getTestIdentifier().getDisplayName(), f.getException().toString(), sw.toString());
+                })
+                .toList();
+        return new RunSummary(summary.getTestsSucceededCount(), summary.getTestsFailedCount(), summary.getTestsAbortedCount(),
+                summary.getTestsSkippedCount(), failures);
+    }
+
+    /**
+     * Returns a summary for a run that did not report results, for example because its JVM crashed.
+     */
+    public static RunSummary failed(String displayName, String reason) {
+        return new RunSummary(0, 1, 0, 0, List.of(new Failure(displayName, reason, "")));
+    }
+
+    public static RunSummary read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), RunSummary.class);
+    }
+
+    public void write(Path path) throws IOException {
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    public RunSummary merge(RunSummary other) {
+        var merged = new ArrayList<>(failures);
+        merged.addAll(other.failures);
+        return new RunSummary(succeeded + other.succeeded, failed + other.failed, aborted + other.aborted, skipped + other.skipped, merged);
+    }
+
+    public long total() {
+        return succeeded + failed + aborted + skipped;
+    }
+
+    /**
+     * Formats the failures for the console.
+     */
+    public String formatFailures() {
+        return failures.stream()
+                .map(f -> "- " + f.displayName() + " (" + f.exception() + ")\n" + f.stackTrace())
+                .collect(joining("\n"));
+    }
+
+    /**
+     * A failed test.
+     *
+     * @param displayName the display name of the test
+     * @param exception   the exception the test failed with
+     * @param stackTrace  the stack trace of the exception
+     */
+    public record Failure(String displayName, String exception, String stackTrace) {
+    }
+}
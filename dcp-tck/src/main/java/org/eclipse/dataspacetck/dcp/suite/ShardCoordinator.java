@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.suite;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_ADDRESS;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_DEFAULT_CALLBACK_ADDRESS;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
+import static org.eclipse.dataspacetck.dcp.suite.ShardFilter.SHARD_CLASSES;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+/**
+ * Splits the test classes of a run into shards and executes each shard in a separate worker JVM.
+ * <p>
+ * Each worker listens on its own callback port, which is the configured callback port incremented by the shard index.
+ * Configuration values referring to the callback address, such as the DIDs of the TCK's own participants, are
+ * rewritten accordingly. Individual values can be set for a shard with {@code dataspacetck.shard.<index>.<property>}.
+ * Workers write their results to a file, which the coordinator merges into a single summary.
+ */
+public class ShardCoordinator {
+    public static final String TCK_SHARDS = TCK_PREFIX + ".shards";
+    public static final String TCK_SHARD_INDEX = TCK_PREFIX + ".shard.index";
+    public static final String TCK_SHARD_RESULTS = TCK_PREFIX + ".shard.results";
+    private static final String TCK_SHARD_TIMEOUT = TCK_PREFIX + ".shard.timeout";
+    private static final String TCK_SHARD_DIR = TCK_PREFIX + ".shard.dir";
+    private static final String SHARD_OVERRIDE_PREFIX = TCK_PREFIX + ".shard.";
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(30);
+
+    private final Map<String, String> properties;
+    private final String[] packages;
+    private final int shards;
+    private final Monitor monitor;
+
+    public ShardCoordinator(Map<String, String> properties, String[] packages, int shards, Monitor monitor) {
+        this.properties = properties;
+        this.packages = packages;
+        this.shards = shards;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Runs all shards and returns the merged result.
+     */
+    public RunSummary execute() {
+        var plan = assign(discoverTestClasses(), shards);
+        var workDir = createWorkDirectory();
+        var timeout = Duration.ofMillis(Long.parseLong(properties.getOrDefault(TCK_SHARD_TIMEOUT, String.valueOf(DEFAULT_TIMEOUT.toMillis()))));
+
+        var workers = new ArrayList<Worker>();
+        for (var index = 0; index < plan.size(); index++) {
+            if (plan.get(index).isEmpty()) {
+                continue;
+            }
+            workers.add(startWorker(index, plan.get(index), workDir));
+        }
+
+        var summary = new RunSummary(0, 0, 0, 0, List.of());
+        for (var worker : workers) {
+            var result = worker.await(timeout);
+            monitor.message(format("Shard %s completed: %s tests, %s failed (log: %s)", worker.index, result.total(),
+                    result.failed() + result.aborted(), worker.log));
+            summary = summary.merge(result);
+        }
+        return summary;
+    }
+
+    /**
+     * Returns the configuration of a shard worker.
+     */
+    Map<String, String> shardConfiguration(int index) {
+        var config = new HashMap<String, String>();
+        var overrides = new HashMap<String, String>();
+        var indexPrefix = SHARD_OVERRIDE_PREFIX + index + ".";
+        properties.forEach((key, value) -> {
+            if (key.startsWith(indexPrefix)) {
+                overrides.put(TCK_PREFIX + "." + key.substring(indexPrefix.length()), value);
+            } else if (!key.startsWith(SHARD_OVERRIDE_PREFIX) && !key.equals(TCK_SHARDS)) {
+                config.put(key, value);
+            }
+        });
+
+        var base = URI.create(properties.getOrDefault(TCK_CALLBACK_ADDRESS, TCK_DEFAULT_CALLBACK_ADDRESS));
+        var port = base.getPort() != -1 ? base.getPort() : "https".equals(base.getScheme()) ? 443 : 80;
+        var address = URI.create(base.getScheme() + "://" + base.getHost() + ":" + (port + index) + base.getRawPath());
+        config.put(TCK_CALLBACK_ADDRESS, address.toString());
+        if (index > 0) {
+            // values derived from the callback address, such as did:web identifiers, refer to the shard's port
+            var authority = base.getHost() + ":" + port;
+            var shardAuthority = address.getHost() + ":" + address.getPort();
+            config.replaceAll((key, value) -> key.startsWith(TCK_PREFIX) ?
+                    value.replace(authority, shardAuthority).replace(authority.replace(":", "%3A"), shardAuthority.replace(":", "%3A")) :
+                    value);
+        }
+        config.putAll(overrides);
+        config.put(TCK_SHARD_INDEX, String.valueOf(index));
+        return config;
+    }
+
+    /**
+     * Distributes the test classes over the shards, balancing the number of tests. Each class is assigned to the shard
+     * with the fewest tests, starting with the largest class.
+     */
+    static List<List<String>> assign(Map<String, Long> testCounts, int shards) {
+        var plan = IntStream.range(0, shards).mapToObj(i -> (List<String>) new ArrayList<String>()).toList();
+        var load = new long[shards];
+        testCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.<String, Long>comparingByKey()))
+                .forEach(entry -> {
+                    var target = IntStream.range(0, shards).boxed().min(Comparator.comparingLong(i -> load[i])).orElseThrow();
+                    plan.get(target).add(entry.getKey());
+                    load[target] += entry.getValue();
+                });
+        return plan;
+    }
+
+    private Map<String, Long> discoverTestClasses() {
+        var request = request()
+                .selectors(Stream.of(packages).map(p -> selectPackage(p.trim())).toList())
+                .configurationParameters(properties)
+                .build();
+        var testPlan = LauncherFactory.create().discover(request);
+        var counts = new LinkedHashMap<String, Long>();
+        testPlan.getRoots().stream()
+                .flatMap(root -> testPlan.getChildren(root).stream())
+                .forEach(identifier -> identifier.getSource()
+                        .filter(ClassSource.class::isInstance)
+                        .map(source -> ((ClassSource) source).getClassName())
+                        .ifPresent(className -> counts.merge(className, countTests(testPlan, identifier), Long::sum)));
+        return counts;
+    }
+
+    private long countTests(TestPlan testPlan, TestIdentifier identifier) {
+        return testPlan.getDescendants(identifier).stream().filter(TestIdentifier::isTest).count();
+    }
+
+    private Worker startWorker(int index, List<String> classes, Path workDir) {
+        var config = shardConfiguration(index);
+        var results = workDir.resolve("shard-" + index + "-results.json");
+        var log = workDir.resolve("shard-" + index + ".log");
+        config.put(TCK_SHARD_RESULTS, results.toString());
+        var configFile = workDir.resolve("shard-" + index + ".properties");
+        try (var writer = new FileWriter(configFile.toFile())) {
+            var shardProperties = new Properties();
+            shardProperties.putAll(config);
+            shardProperties.store(writer, "DCP TCK shard " + index);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        var builder = new ProcessBuilder(java,
+                "-D" + SHARD_CLASSES + "=" + String.join(",", classes),
+                "-cp", System.getProperty("java.class.path"),
+                DcpTckSuite.class.getName(), "-config", configFile.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        // the configuration file takes precedence, TCK environment variables have already been merged into it
+        builder.environment().keySet().removeIf(key -> key.toLowerCase().startsWith(TCK_PREFIX));
+        try {
+            monitor.message(format("Starting shard %s on %s with %s test classes", index, config.get(TCK_CALLBACK_ADDRESS), classes.size()));
+            return new Worker(index, builder.start(), results, log);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to start shard " + index, e);
+        }
+    }
+
+    private Path createWorkDirectory() {
+        try {
+            var configured = properties.get(TCK_SHARD_DIR);
+            if (configured != null) {
+                return Files.createDirectories(Path.of(configured));
+            }
+            return Files.createTempDirectory("dcp-tck-shards");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private record Worker(int index, Process process, Path results, Path log) {
+
+        RunSummary await(Duration timeout) {
+            var name = "Shard " + index;
+            try {
+                if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    process.destroyForcibly();
+                    return RunSummary.failed(name, "Timed out after " + timeout);
+                }
+                if (!Files.exists(results)) {
+                    return RunSummary.failed(name, "Exited with code " + process.exitValue() + " without reporting results");
+                }
+                return RunSummary.read(results);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+                return RunSummary.failed(name, "Interrupted");
+            } catch (IOException e) {
+                return RunSummary.failed(name, "Unreadable results: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.suite;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.Set;
+
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Restricts a shard worker to the test classes assigned to it by the {@link ShardCoordinator}. The filter is registered
+ * through the service loader and includes every test unless the {@link #SHARD_CLASSES} system property is set.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+    public static final String SHARD_CLASSES = "dataspacetck.shard.classes";
+
+    private final Set<String> classes;
+
+    public ShardFilter() {
+        this(System.getProperty(SHARD_CLASSES));
+    }
+
+    ShardFilter(String classes) {
+        this.classes = classes == null ? null : stream(classes.split(",")).map(String::trim).collect(toSet());
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (classes == null) {
+            return FilterResult.included("no shard configured");
+        }
+        var className = descriptor.getSource()
+                .map(source -> {
+                    if (source instanceof ClassSource classSource) {
+                        return classSource.getClassName();
+                    } else if (source instanceof MethodSource methodSource) {
+                        return methodSource.getClassName();
+                    }
+                    return null;
+                })
+                .orElse(null);
+        if (className == null) {
+            return FilterResult.included("not a test class");
+        }
+        var topLevel = className.contains("$") ? className.substring(0, className.indexOf('$')) : className;
+        return FilterResult.includedIf(classes.contains(topLevel), () -> "assigned to this shard", () -> "assigned to another shard");
+    }
+}
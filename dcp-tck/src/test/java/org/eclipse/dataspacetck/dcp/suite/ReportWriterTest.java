@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.suite;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dcp.suite.ReportWriter.STATUS_FAILED;
+import static org.eclipse.dataspacetck.dcp.suite.ReportWriter.STATUS_SKIPPED;
+import static org.eclipse.dataspacetck.dcp.suite.ReportWriter.STATUS_SUCCESSFUL;
+
+class ReportWriterTest {
+    private static final List<ReportWriter.TestResult> RESULTS = List.of(
+            new ReportWriter.TestResult("org.example.FirstTest", "6.4.1 passes", STATUS_SUCCESSFUL, 1500,
+                    Map.of("HTTP", 1000.0, "OTHER", 500.0), null, null, null),
+            new ReportWriter.TestResult("org.example.FirstTest", "6.4.2 fails", STATUS_FAILED, 250, Map.of("ASSERTION", 250.0),
+                    AssertionError.class.getName(), "expected <200>", "java.lang.AssertionError: expected <200>"),
+            new ReportWriter.TestResult("org.example.SecondTest", "6.5.1 skipped", STATUS_SKIPPED, 0, Map.of(), null, "disabled", null));
+
+    private final ReportWriter writer = new ReportWriter("dcp-tck");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void verifyXmlReport() throws IOException {
+        var path = directory.resolve("TEST-dcp-tck.xml");
+
+        writer.writeXml(path, Instant.EPOCH, RESULTS);
+
+        var xml = Files.readString(path);
+        assertThat(xml).contains("<testsuites name=\"dcp-tck\" tests=\"3\" failures=\"1\" errors=\"0\" skipped=\"1\" time=\"1.750\"")
+                .contains("<testsuite name=\"org.example.FirstTest\" tests=\"2\"")
+                .contains("<testcase name=\"6.4.1 passes\" classname=\"org.example.FirstTest\" time=\"1.500\">")
+                .contains("<property name=\"step.http\" value=\"1.000\"/>")
+                .contains("<failure message=\"expected &lt;200&gt;\" type=\"java.lang.AssertionError\">")
+                .contains("<skipped message=\"disabled\"></skipped>");
+    }
+
+    @Test
+    void verifyJsonReport() throws IOException {
+        var path = directory.resolve("dcp-tck-report.json");
+
+        writer.writeJson(path, Instant.EPOCH, RESULTS);
+
+        var report = new ObjectMapper().readTree(path.toFile());
+        assertThat(report.get("tests").asInt()).isEqualTo(3);
+        assertThat(report.get("failures").asInt()).isEqualTo(1);
+        assertThat(report.get("results").get(0).get("steps").get("HTTP").asDouble()).isEqualTo(1000.0);
+        assertThat(report.get("results").get(1).get("failureMessage").asText()).isEqualTo("expected <200>");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.dataspacetck.dcp.suite;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_CALLBACK_ADDRESS;
+import static org.eclipse.dataspacetck.dcp.suite.ShardCoordinator.TCK_SHARDS;
+import static org.eclipse.dataspacetck.dcp.suite.ShardCoordinator.TCK_SHARD_INDEX;
+import static org.mockito.Mockito.mock;
+
+class ShardCoordinatorTest {
+
+    @Test
+    void verifyAssignmentBalancesTests() {
+        var plan = ShardCoordinator.assign(Map.of("A", 10L, "B", 6L, "C", 5L, "D", 1L), 2);
+
+        assertThat(plan).containsExactly(List.of("A", "D"), List.of("B", "C"));
+    }
+
+    @Test
+    void verifyAssignmentWithMoreShardsThanClasses() {
+        var plan = ShardCoordinator.assign(Map.of("A", 1L), 3);
+
+        assertThat(plan).containsExactly(List.of("A"), List.of(), List.of());
+    }
+
+    @Test
+    void verifyShardConfiguration() {
+        var properties = Map.of(
+                TCK_CALLBACK_ADDRESS, "http://localhost:8080",
+                TCK_SHARDS, "3",
+                "dataspacetck.did.verifier", "did:web:localhost%3A8080:verifier",
+                "dataspacetck.did.holder", "did:web:localhost%3A4711:holder",
+                "dataspacetck.shard.2.did.holder", "did:web:localhost%3A4713:holder");
+        var coordinator = new ShardCoordinator(properties, new String[]{ "org.example" }, 3, mock(Monitor.class));
+
+        var first = coordinator.shardConfiguration(0);
+        assertThat(first).containsEntry(TCK_CALLBACK_ADDRESS, "http://localhost:8080")
+                .containsEntry("dataspacetck.did.verifier", "did:web:localhost%3A8080:verifier")
+                .containsEntry(TCK_SHARD_INDEX, "0")
+                .doesNotContainKey(TCK_SHARDS);
+
+        var third = coordinator.shardConfiguration(2);
+        assertThat(third).containsEntry(TCK_CALLBACK_ADDRESS, "http://localhost:8082")
+                .containsEntry("dataspacetck.did.verifier", "did:web:localhost%3A8082:verifier")
+                .containsEntry("dataspacetck.did.holder", "did:web:localhost%3A4713:holder")
+                .containsEntry(TCK_SHARD_INDEX, "2")
+                .doesNotContainKey("dataspacetck.shard.2.did.holder");
+    }
+
+    @Test
+    void verifyMergedSummary() {
+        var first = new RunSummary(3, 1, 0, 1, List.of(new RunSummary.Failure("test-1", "error", "")));
+        var second = RunSummary.failed("Shard 1", "Timed out");
+
+        var merged = first.merge(second);
+
+        assertThat(merged.total()).isEqualTo(6);
+        assertThat(merged.failed()).isEqualTo(2);
+        assertThat(merged.failures()).extracting(RunSummary.Failure::displayName).containsExactly("test-1", "Shard 1");
+    }
+}
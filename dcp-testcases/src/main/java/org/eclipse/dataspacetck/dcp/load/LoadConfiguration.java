@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.eclipse.dataspacetck.core.api.system.SystemsConstants.TCK_PREFIX;
+
+/**
+ * Settings of a load run. The settings are read from system properties, which the suite sets from the TCK
+ * configuration when load mode is enabled.
+ *
+ * @param rate        the number of requests started per second, independent of how fast responses arrive
+ * @param duration    the period during which requests are started
+ * @param concurrency the maximum number of requests in flight; requests scheduled while all are busy are queued and
+ *                    the queueing time counts towards their response time
+ * @param timeout     the time to wait for outstanding requests after the last one was started
+ * @param reportDir   the directory the JSON result is written to, or null
+ */
+public record LoadConfiguration(double rate, Duration duration, int concurrency, Duration timeout, Path reportDir) {
+    public static final String TCK_LOAD_PREFIX = TCK_PREFIX + ".load.";
+    public static final String TCK_LOAD_RATE = TCK_LOAD_PREFIX + "rate";
+    public static final String TCK_LOAD_DURATION = TCK_LOAD_PREFIX + "duration";
+    public static final String TCK_LOAD_CONCURRENCY = TCK_LOAD_PREFIX + "concurrency";
+    public static final String TCK_LOAD_TIMEOUT = TCK_LOAD_PREFIX + "timeout";
+    public static final String LOAD_TEST_PACKAGE = "org.eclipse.dataspacetck.dcp.load";
+
+    private static final String TCK_REPORT_DIR = TCK_PREFIX + ".report.dir";
+
+    public LoadConfiguration {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Load rate must be positive: " + rate);
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Load concurrency must be positive: " + concurrency);
+        }
+    }
+
+    public static LoadConfiguration fromSystemProperties() {
+        var reportDir = System.getProperty(TCK_REPORT_DIR);
+        return new LoadConfiguration(
+                Double.parseDouble(System.getProperty(TCK_LOAD_RATE, "10")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty(TCK_LOAD_DURATION, "30"))),
+                Integer.parseInt(System.getProperty(TCK_LOAD_CONCURRENCY, "64")),
+                Duration.ofSeconds(Long.parseLong(System.getProperty(TCK_LOAD_TIMEOUT, "30"))),
+                reportDir == null ? null : Path.of(reportDir));
+    }
+
+    /**
+     * Returns the interval between two scheduled requests in nanoseconds.
+     */
+    public double intervalNanos() {
+        return 1_000_000_000d / rate;
+    }
+}
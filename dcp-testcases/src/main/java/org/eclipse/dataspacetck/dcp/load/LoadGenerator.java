@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.load;
+
+import okhttp3.Request;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static java.time.Duration.ofNanos;
+
+/**
+ * Drives requests at a fixed arrival rate. Requests are scheduled open-loop: the start time of each request is fixed in
+ * advance and does not depend on earlier responses, so a slow system under test does not slow down the load.
+ * <p>
+ * Three times are recorded in microseconds for each request. The response time runs from the scheduled start to the
+ * arrival of the complete response body, so it includes any delay in sending the request and is not understated when
+ * the system under test falls behind. It is made up of the queueing time, from the scheduled start until the request
+ * is sent, and the service time, from sending the request to the complete response body. Requests are created by the
+ * scheduler ahead of their scheduled start, so obtaining tokens is not timed unless it takes longer than the interval
+ * between requests. Validation of the response body runs afterwards and is not timed.
+ */
+public class LoadGenerator {
+    public static final String ERROR_REQUEST = "request";
+    public static final String ERROR_CONNECTION = "connection";
+    public static final String ERROR_VALIDATION = "validation";
+    public static final String ERROR_TIMEOUT = "timeout";
+
+    private final LoadConfiguration configuration;
+    private final Callable<Request> requestFactory;
+    private final Consumer<byte[]> validation;
+
+    private final LatencyHistogram responseTimes = new LatencyHistogram();
+    private final LatencyHistogram serviceTimes = new LatencyHistogram();
+    private final LatencyHistogram queueing = new LatencyHistogram();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder validated = new LongAdder();
+    private final AtomicLong lastCompletion = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param configuration  the load settings
+     * @param requestFactory creates a request, invoked once per request by the scheduler before its scheduled start
+     * @param validation     verifies the body of a successful response; signals an invalid response by throwing
+     */
+    public LoadGenerator(LoadConfiguration configuration, Callable<Request> requestFactory, Consumer<byte[]> validation) {
+        this.configuration = configuration;
+        this.requestFactory = requestFactory;
+        this.validation = validation;
+    }
+
+    /**
+     * Runs the load for the configured duration and waits for the outstanding requests.
+     */
+    public LoadResult run() {
+        var executor = Executors.newFixedThreadPool(configuration.concurrency());
+        var start = System.nanoTime();
+        lastCompletion.set(start);
+        var scheduled = schedule(executor, start);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(configuration.timeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                var abandoned = executor.shutdownNow().size();
+                errors.computeIfAbsent(ERROR_TIMEOUT, k -> new LongAdder()).add(abandoned);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+        return new LoadResult(configuration.rate(), scheduled, ofNanos(lastCompletion.get() - start), validated.sum(),
+                responseTimes, serviceTimes, queueing, sum(statusCodes), sum(errors));
+    }
+
+    private long schedule(ExecutorService executor, long start) {
+        var durationNanos = configuration.duration().toNanos();
+        var interval = configuration.intervalNanos();
+        var count = 0L;
+        while (true) {
+            var offset = Math.round(count * interval);
+            if (offset >= durationNanos) {
+                return count;
+            }
+            var intended = start + offset;
+            count++;
+            Request request;
+            try {
+                request = requestFactory.call();
+            } catch (Exception | AssertionError e) {
+                error(ERROR_REQUEST);
+                continue;
+            }
+            var wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            executor.execute(() -> exchange(intended, request));
+        }
+    }
+
+    private void exchange(long intended, Request request) {
+        var sent = System.nanoTime();
+        queueing.record(TimeUnit.NANOSECONDS.toMicros(sent - intended));
+        byte[] body;
+        try (var response = HttpClients.shared().newCall(request).execute()) {
+            body = response.body() == null ? new byte[0] : response.body().bytes();
+            var now = System.nanoTime();
+            responseTimes.record(TimeUnit.NANOSECONDS.toMicros(now - intended));
+            serviceTimes.record(TimeUnit.NANOSECONDS.toMicros(now - sent));
+            lastCompletion.accumulateAndGet(now, Math::max);
+            statusCodes.computeIfAbsent(response.code(), k -> new LongAdder()).increment();
+            if (!response.isSuccessful()) {
+                error("HTTP " + response.code());
+                return;
+            }
+        } catch (IOException e) {
+            error(ERROR_CONNECTION);
+            return;
+        }
+        try {
+            validation.accept(body);
+            validated.increment();
+        } catch (RuntimeException | AssertionError e) {
+            error(ERROR_VALIDATION);
+        }
+    }
+
+    private void error(String reason) {
+        errors.computeIfAbsent(reason, k -> new LongAdder()).increment();
+    }
+
+    private static <K> Map<K, Long> sum(Map<K, LongAdder> adders) {
+        var sums = new TreeMap<K, Long>();
+        adders.forEach((key, adder) -> sums.put(key, adder.sum()));
+        return sums;
+    }
+}
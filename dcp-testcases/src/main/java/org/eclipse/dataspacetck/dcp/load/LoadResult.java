@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a load run.
+ *
+ * @param rate          the configured arrival rate in requests per second
+ * @param scheduled     the number of requests started
+ * @param elapsed       the time from the first scheduled request to the last response
+ * @param validated     the number of responses whose presentations were verified
+ * @param responseTimes the times in microseconds from the scheduled start of a request to its complete response
+ * @param serviceTimes  the times in microseconds from sending a request to its complete response
+ * @param queueing      the times in microseconds from the scheduled start of a request until it was sent
+ * @param statusCodes   the number of responses per HTTP status code
+ * @param errors        the number of failed requests per reason; unsuccessful responses are keyed by their status code
+ */
+public record LoadResult(double rate, long scheduled, Duration elapsed, long validated, LatencyHistogram responseTimes,
+                         LatencyHistogram serviceTimes, LatencyHistogram queueing, Map<Integer, Long> statusCodes,
+                         Map<String, Long> errors) {
+    public static final List<Double> PERCENTILES = List.of(50d, 90d, 99d, 99.9d, 99.99d, 100d);
+
+    public double validatedPerSecond() {
+        var seconds = elapsed.toNanos() / 1_000_000_000d;
+        return seconds == 0 ? 0 : validated / seconds;
+    }
+
+    public long errorCount() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the result as a map suitable for JSON serialization. Times are given in milliseconds.
+     */
+    public Map<String, Object> toMap() {
+        var map = new LinkedHashMap<String, Object>();
+        map.put("rate", rate);
+        map.put("scheduled", scheduled);
+        map.put("completed", responseTimes.getCount());
+        map.put("validated", validated);
+        map.put("elapsedMs", elapsed.toMillis());
+        map.put("validatedPerSecond", validatedPerSecond());
+        map.put("meanResponseTimeMs", responseTimes.getMean() / 1000);
+        map.put("responseTimeMs", percentiles(responseTimes));
+        map.put("meanServiceTimeMs", serviceTimes.getMean() / 1000);
+        map.put("serviceTimeMs", percentiles(serviceTimes));
+        map.put("meanQueueingMs", queueing.getMean() / 1000);
+        map.put("queueingMs", percentiles(queueing));
+        map.put("statusCodes", statusCodes);
+        map.put("errors", errors);
+        return map;
+    }
+
+    /**
+     * Writes the result as JSON.
+     */
+    public void write(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), toMap());
+    }
+
+    /**
+     * Formats the result for console output.
+     */
+    public String format() {
+        var builder = new StringBuilder();
+        builder.append("Presentation query load: %.1f req/s target, %d scheduled, %d completed in %.1f s%n"
+                .formatted(rate, scheduled, responseTimes.getCount(), elapsed.toMillis() / 1000d));
+        builder.append("Validated presentations: %d (%.1f/s)%n".formatted(validated, validatedPerSecond()));
+        appendPercentiles(builder, "Response time", responseTimes);
+        appendPercentiles(builder, "Service time", serviceTimes);
+        appendPercentiles(builder, "Queueing", queueing);
+        builder.append("Status codes: ").append(statusCodes).append(System.lineSeparator());
+        builder.append("Errors: ").append(errors.isEmpty() ? "none" : errors);
+        return builder.toString();
+    }
+
+    private static Map<String, Object> percentiles(LatencyHistogram histogram) {
+        var percentiles = new LinkedHashMap<String, Object>();
+        PERCENTILES.forEach(p -> percentiles.put(label(p), millis(histogram.getValueAtPercentile(p))));
+        return percentiles;
+    }
+
+    private static void appendPercentiles(StringBuilder builder, String name, LatencyHistogram histogram) {
+        builder.append("%s (ms): mean %.2f".formatted(name, histogram.getMean() / 1000));
+        PERCENTILES.forEach(p -> builder.append(", %s %.2f".formatted(label(p), millis(histogram.getValueAtPercentile(p)))));
+        builder.append(System.lineSeparator());
+    }
+
+    private static String label(double percentile) {
+        return percentile == 100 ? "max" : "p" + (percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000d;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.load;
+
+import org.eclipse.dataspacetck.core.spi.boot.Monitor;
+import org.eclipse.dataspacetck.dcp.system.annotation.Holder;
+import org.eclipse.dataspacetck.dcp.system.annotation.IssueCredentials;
+import org.eclipse.dataspacetck.dcp.system.message.DcpMessageBuilder;
+import org.eclipse.dataspacetck.dcp.system.sts.StsClient;
+import org.eclipse.dataspacetck.dcp.verification.presentation.cs.AbstractPresentationFlowTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.PRESENTATION;
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.PRESENTATION_QUERY_MESSAGE;
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.SCOPE;
+import static org.eclipse.dataspacetck.dcp.system.profile.TestProfile.MEMBERSHIP_CREDENTIAL_TYPE;
+import static org.eclipse.dataspacetck.dcp.system.profile.TestProfile.MEMBERSHIP_SCOPE;
+import static org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures.parseAndVerifyPresentation;
+
+/**
+ * Measures the presentation query throughput of a Credential Service. Each request carries a freshly minted STS token
+ * and ID token, and each successful response is verified the same way as in the compliance tests. This class is not
+ * part of the compliance test package and only runs in load mode.
+ */
+public class PresentationQueryLoadTest extends AbstractPresentationFlowTest {
+    private static final String LOAD_RESULT_FILE = "dcp-tck-load.json";
+
+    @Test
+    @DisplayName("Presentation query load")
+    @IssueCredentials(MEMBERSHIP_CREDENTIAL_TYPE)
+    public void presentationQueryLoad(@Holder StsClient stsClient, Monitor monitor) throws IOException {
+        var configuration = LoadConfiguration.fromSystemProperties();
+        var message = DcpMessageBuilder.newInstance()
+                .type(PRESENTATION_QUERY_MESSAGE)
+                .property(SCOPE, List.of(MEMBERSHIP_SCOPE))
+                .build();
+
+        var generator = new LoadGenerator(configuration,
+                () -> createPresentationRequest(obtainToken(stsClient), message),
+                this::verifyPresentations);
+        var result = generator.run();
+
+        monitor.message(result.format());
+        if (configuration.reportDir() != null) {
+            result.write(configuration.reportDir().resolve(LOAD_RESULT_FILE));
+        }
+        assertThat(result.validated()).withFailMessage("No presentation could be verified:%n%s", result.format()).isPositive();
+    }
+
+    private String obtainToken(StsClient stsClient) {
+        // read tokens are single use, so every request needs its own
+        var result = stsClient.obtainReadTokenAsync(verifierDid, List.of(MEMBERSHIP_SCOPE)).join();
+        if (result.failed()) {
+            throw new AssertionError(result.getFailure());
+        }
+        return result.getContent();
+    }
+
+    private void verifyPresentations(byte[] body) {
+        try {
+            var responseMessage = mapper.readValue(body, Map.class);
+            @SuppressWarnings("unchecked")
+            var presentations = (List<String>) responseMessage.get(PRESENTATION);
+            assertThat(presentations).isNotEmpty();
+            assertThat(parseAndVerifyPresentation(presentations, verifierDid)).contains(MEMBERSHIP_CREDENTIAL_TYPE);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -16,12 +16,12 @@ package org.eclipse.dataspacetck.dcp.verification.fixtures;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jwt.SignedJWT;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
+import org.eclipse.dataspacetck.dcp.system.crypto.VerifierCache;
 import org.eclipse.dataspacetck.dcp.system.did.DidClient;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
 import org.eclipse.dataspacetck.dcp.system.message.DcpConstants;
 import org.eclipse.dataspacetck.dcp.system.model.did.VerificationMethod;
 import org.jetbrains.annotations.NotNull;
@@ -38,13 +38,15 @@ import java.util.stream.Stream;
 
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.eclipse.dataspacetck.dcp.system.crypto.Keys.createVerifier;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.CREDENTIAL_SERVICE_TYPE;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.ID;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.ISSUER_SERVICE_TYPE;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.VC;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.VERIFIABLE_CREDENTIAL_CLAIM;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.VP;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.ASSERTION;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.Step.TOKEN_VERIFICATION;
+import static org.eclipse.dataspacetck.dcp.system.timing.StepTimings.time;
 
 /**
  * Testing functions.
@@ -55,10 +57,12 @@ public class TestFixtures {
      * Executes the request and applies the given verification.
      */
     public static void executeRequest(Request request, Consumer<Response> verification) {
-        var client = new OkHttpClient();
-        var call = client.newCall(request);
+        var call = HttpClients.shared().newCall(request);
         try (var response = call.execute()) {
-            verification.accept(response);
+            time(ASSERTION, () -> {
+                verification.accept(response);
+                return null;
+            });
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -68,10 +72,9 @@ public class TestFixtures {
      * Executes the request and applies the given verification, returning the result of the verification function
      */
     public static <T> T executeRequestAndGet(Request request, Function<Response, T> verification) {
-        var client = new OkHttpClient();
-        var call = client.newCall(request);
+        var call = HttpClients.shared().newCall(request);
         try (var response = call.execute()) {
-            return verification.apply(response);
+            return time(ASSERTION, () -> verification.apply(response));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -188,12 +191,16 @@ public class TestFixtures {
 
     @NotNull
     private static SignedJWT parseAndVerifyJwt(String jwt) {
+        return time(TOKEN_VERIFICATION, () -> verifyJwt(jwt));
+    }
+
+    @NotNull
+    private static SignedJWT verifyJwt(String jwt) {
         try {
             var parsedVc = SignedJWT.parse(jwt);
             var kid = parsedVc.getHeader().getKeyID();
             var material = resolveKeyMaterial(kid);
-            var jwk = JWK.parse(material.getPublicKeyJwk());
-            var vcVerifier = createVerifier(jwk.toECKey().toPublicKey());
+            var vcVerifier = VerifierCache.shared().getVerifier(kid, material.getPublicKeyJwk());
 
             assertThat(parsedVc.verify(vcVerifier)).isTrue();
 
@@ -19,7 +19,6 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jwt.JWTClaimsSet;
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import org.eclipse.dataspacetck.core.api.system.Inject;
@@ -30,6 +29,7 @@ import org.eclipse.dataspacetck.dcp.system.annotation.IssuerService;
 import org.eclipse.dataspacetck.dcp.system.annotation.RoleType;
 import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.eclipse.dataspacetck.dcp.system.cs.CredentialObject;
+import org.eclipse.dataspacetck.dcp.system.http.HttpClients;
 import org.eclipse.dataspacetck.dcp.system.message.DcpMessageBuilder;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -71,7 +71,7 @@ public abstract class AbstractCredentialIssuanceTest {
                 .url(endpoint + ISSUER_METADATA_PATH)
                 .get();
 
-        try (var response = new OkHttpClient().newCall(builder.build()).execute()) {
+        try (var response = HttpClients.shared().newCall(builder.build()).execute()) {
             if (response.isSuccessful()) {
                 var stream = response.body().string();
                 var issuerMetadata = mapper.readValue(stream, IssuerMetadataMessage.class);
@@ -31,6 +31,7 @@ import org.eclipse.dataspacetck.dcp.system.issuer.CredentialStatus;
 import org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 import java.time.Duration;
 import java.util.Date;
@@ -40,6 +41,7 @@ import static com.nimbusds.jose.JWSAlgorithm.ES256;
 import static java.time.Instant.now;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.CALLBACK_ENDPOINT_LOCK;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.CREDENTIAL_STATUS_PATH;
 import static org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures.assert2xxCode;
 import static org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures.bodyAs;
@@ -47,7 +49,15 @@ import static org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures.ex
 import static org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures.executeRequestAndGet;
 import static org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures.resolveIssuerServiceEndpoint;
 
+/**
+ * Tests the credential request status API. Most tests make a successful credential request first, so the IssuerService
+ * delivers credentials to the callback endpoint.
+ */
+@ResourceLock(CALLBACK_ENDPOINT_LOCK)
 public class CredentialRequestStatusTest extends AbstractCredentialIssuanceTest {
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration STATUS_POLL_INTERVAL = Duration.ofMillis(100);
+
     @Inject
     @HolderPid
     private String holderPid;
@@ -57,12 +67,12 @@ public class CredentialRequestStatusTest extends AbstractCredentialIssuanceTest
     void is_6_8_1_credentialStatusRequest() {
         var id = requestCredentials();
 
-        // make and assert credential status request
-        var rq = createStatusRequest(id);
-
-        await().atMost(Duration.ofSeconds(10))
-                .pollInterval(Duration.ofSeconds(1))
-                .untilAsserted(() -> executeRequest(rq.build(), response -> {
+        // every status is valid, so the status is requested right away; the request is retried only while the
+        // IssuerService has not registered it yet
+        await().atMost(STATUS_TIMEOUT)
+                .pollDelay(Duration.ZERO)
+                .pollInterval(STATUS_POLL_INTERVAL)
+                .untilAsserted(() -> executeRequest(createStatusRequest(id).build(), response -> {
                     assert2xxCode(response);
                     var status = bodyAs(response, CredentialStatus.class, mapper).getStatus();
                     assertThat(status).isIn("ISSUED", "RECEIVED", "REJECTED");
@@ -27,8 +27,11 @@ import org.eclipse.dataspacetck.dcp.system.annotation.Did;
 import org.eclipse.dataspacetck.dcp.system.annotation.HolderPid;
 import org.eclipse.dataspacetck.dcp.system.annotation.RoleType;
 import org.eclipse.dataspacetck.dcp.system.cs.CredentialService;
+import org.eclipse.dataspacetck.dcp.system.event.CredentialsStored;
+import org.eclipse.dataspacetck.dcp.system.event.EventBus;
 import org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 import java.time.Duration;
 import java.util.Date;
@@ -38,10 +41,11 @@ import static com.nimbusds.jose.JOSEObjectType.JWT;
 import static com.nimbusds.jose.JWSAlgorithm.ES256;
 import static java.time.Instant.now;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.awaitility.Awaitility.await;
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.CALLBACK_ENDPOINT_LOCK;
 import static org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures.executeRequest;
 
 public class CredentialRequestTest extends AbstractCredentialIssuanceTest {
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(10);
 
     @Inject
     @HolderPid
@@ -49,7 +53,10 @@ public class CredentialRequestTest extends AbstractCredentialIssuanceTest {
 
     @MandatoryTest
     @DisplayName("6.4.1 IssuerService should accept a CredentialRequest")
-    void is_6_4_1_credentialRequest(CredentialService credentialService) {
+    @ResourceLock(CALLBACK_ENDPOINT_LOCK)
+    void is_6_4_1_credentialRequest(CredentialService credentialService, EventBus eventBus) {
+        // subscribe before the request, the IssuerService may deliver the credentials right away
+        var delivered = eventBus.next(CredentialsStored.class, event -> credentialService.getCredentials().size() == 2);
 
         var msg = createCredentialRequestMessage(holderPid).build();
         var token = createToken(createClaims().build());
@@ -62,11 +69,9 @@ public class CredentialRequestTest extends AbstractCredentialIssuanceTest {
 
         // wait until the IssuerService has processed the request and sends a CredentialMessage
         // to the StorageApi
-        await().atMost(Duration.ofSeconds(10))
-                .pollInterval(Duration.ofMillis(500))
-                .untilAsserted((() -> assertThat(credentialService.getCredentials())
-                        .withFailMessage("Expected to receive a CredentialMessage")
-                        .hasSize(2)));
+        assertThat(delivered)
+                .withFailMessage("Expected to receive a CredentialMessage")
+                .succeedsWithin(DELIVERY_TIMEOUT);
     }
 
     @MandatoryTest
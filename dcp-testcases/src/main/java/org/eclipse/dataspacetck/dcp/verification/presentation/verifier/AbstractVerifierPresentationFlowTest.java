@@ -27,6 +27,7 @@ import org.eclipse.dataspacetck.dcp.system.annotation.PresentationFlow;
 import org.eclipse.dataspacetck.dcp.system.crypto.KeyService;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 import java.util.Date;
 
@@ -36,10 +37,12 @@ import static java.util.UUID.randomUUID;
 import static org.eclipse.dataspacetck.dcp.system.annotation.RoleType.HOLDER;
 import static org.eclipse.dataspacetck.dcp.system.annotation.RoleType.ISSUER;
 import static org.eclipse.dataspacetck.dcp.system.annotation.RoleType.VERIFIER;
+import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.CALLBACK_ENDPOINT_LOCK;
 import static org.eclipse.dataspacetck.dcp.system.message.DcpConstants.TOKEN;
 
 @PresentationFlow
 @ExtendWith(SystemBootstrapExtension.class)
+@ResourceLock(CALLBACK_ENDPOINT_LOCK)
 public class AbstractVerifierPresentationFlowTest {
     @Inject
     @Did(VERIFIER)
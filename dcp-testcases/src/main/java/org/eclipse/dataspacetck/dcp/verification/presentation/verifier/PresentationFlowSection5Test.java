@@ -33,6 +33,7 @@ import org.eclipse.dataspacetck.dcp.system.model.vc.MetadataReference;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VcContainer;
 import org.eclipse.dataspacetck.dcp.system.model.vc.VerifiableCredential;
 import org.eclipse.dataspacetck.dcp.system.revocation.CredentialRevocationService;
+import org.eclipse.dataspacetck.dcp.system.revocation.ShardedRevocationService;
 import org.eclipse.dataspacetck.dcp.system.service.Result;
 import org.eclipse.dataspacetck.dcp.verification.fixtures.TestFixtures;
 import org.junit.jupiter.api.DisplayName;
@@ -40,7 +41,6 @@ import org.junit.jupiter.api.DisplayName;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.stream.Stream;
 
 import static java.util.UUID.randomUUID;
@@ -180,23 +180,19 @@ public class PresentationFlowSection5Test extends AbstractVerifierPresentationFl
     void verifier_05_04_03_06_presentationResponse_credentialRevoked(@AuthToken(MEMBERSHIP_SCOPE) String authToken,
                                                                      @TriggerEndpoint String triggerEndpoint,
                                                                      @Holder CredentialService holderCredentialService,
-                                                                     CredentialRevocationService credentialRevocationService) {
+                                                                     ShardedRevocationService revocationService) {
 
-        var index = 1;
-        credentialRevocationService.setRevoked(index);
+        // the credentials of other tests refer to the current list, which the verifier may have cached
+        var allocation = revocationService.allocateInNewList();
+        revocationService.setRevoked(allocation.credentialId(), allocation.statusListIndex());
+        revocationService.markIssued(allocation);
 
         holderCredentialService.withDelegate(new PresentationProvider() {
             @Override
             public Result<Map<String, Object>> presentationQueryMessage(String bearerDid, String accessToken, Map<String, Object> message) {
                 // create credential - subject-id is not equal to presentation holder
                 var cred = createCredential()
-                        .credentialStatus(MetadataReference.Builder.newInstance()
-                                .id(UUID.randomUUID().toString())
-                                .type("BitstringStatusListEntry")
-                                .setExtensibleProperty("statusPurpose", "revocation")
-                                .setExtensibleProperty("statusListIndex", String.valueOf(index))
-                                .setExtensibleProperty("statusListCredential", "%s/statuslist/%s".formatted(credentialRevocationService.getAddress(), credentialRevocationService.getCredentialId()))
-                                .build())
+                        .credentialStatus(allocation.toCredentialStatus(revocationService.getStatusEntryType()))
                         .build();
                 return Result.success(createPresentation(cred));
             }
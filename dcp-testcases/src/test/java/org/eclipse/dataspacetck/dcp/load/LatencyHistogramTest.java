@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2025 Metaform Systems, Inc.
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Metaform Systems, Inc. - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspacetck.dcp.load;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void verifyBucketBoundaries() {
+        LongStream.of(0, 1, 127, 128, 255, 256, 1_000, 123_456_789, Long.MAX_VALUE).forEach(value -> {
+            var index = LatencyHistogram.indexOf(value);
+            assertThat(value).isBetween(LatencyHistogram.lowestEquivalentValue(index), LatencyHistogram.highestEquivalentValue(index));
+        });
+        assertThat(LatencyHistogram.indexOf(127) + 1).isEqualTo(LatencyHistogram.indexOf(128));
+        assertThat(LatencyHistogram.lowestEquivalentValue(LatencyHistogram.indexOf(256))).isEqualTo(256);
+    }
+
+    @Test
+    void verifyPercentiles() {
+        var histogram = new LatencyHistogram();
+        LongStream.rangeClosed(1, 10_000).forEach(histogram::record);
+
+        assertThat(histogram.getCount()).isEqualTo(10_000);
+        assertThat(histogram.getMax()).isEqualTo(10_000);
+        assertThat(histogram.getMean()).isCloseTo(5_000.5, within(0.001));
+        assertThat(histogram.getValueAtPercentile(50)).isCloseTo(5_000L, within(50L));
+        assertThat(histogram.getValueAtPercentile(99)).isCloseTo(9_900L, within(99L));
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000);
+        assertThat(histogram.getValueAtPercentile(0)).isEqualTo(1);
+    }
+
+    @Test
+    void verifyEmpty() {
+        var histogram = new LatencyHistogram();
+
+        assertThat(histogram.getValueAtPercentile(99)).isZero();
+        assertThat(histogram.getMean()).isZero();
+    }
+
+    @Test
+    void verifyInvalidValues() {
+        var histogram = new LatencyHistogram();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.record(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.getValueAtPercentile(101));
+    }
+}
@@ -26,6 +26,7 @@ pluginManagement {
 }
 
 include("dcp-api")
+include("dcp-benchmarks")
 include("dcp-system")
 include("dcp-tck")
 include("dcp-testcases")